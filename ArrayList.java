@@ -1,6 +1,23 @@
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Your implementation of an ArrayList.
  *
+ * Removes shrink the backing array when it gets mostly empty: once size
+ * drops to a quarter of the length, the length is halved (never below
+ * INITIAL_CAPACITY). Shrinking at a quarter but only to a half means the
+ * list has to grow or shrink by a lot before the next copy, so adds and
+ * removes near the boundary don't keep copying. The rule only looks at size
+ * and the array length, so it needs no extra fields; ResizingArrayList is
+ * the version whose growth policy and shrinking can be configured.
+ *
  * @author MYTHRI MURALIKANNAN
  * @version 1.0
  * @userid mmuralikannan3
@@ -57,27 +74,12 @@ public class ArrayList<T> {
         if (size == backingArray.length) {
             T[] oldArray = backingArray;
             backingArray = (T[]) new Object[2 * backingArray.length];
-            int indexCount = 0;
-            for (int i = 0; i < oldArray.length; i++) {
-                if (i == index) {
-                    backingArray[i + indexCount] = data;
-                    indexCount++;
-                }
-                backingArray[i + indexCount] = oldArray[i];
-            }
+            System.arraycopy(oldArray, 0, backingArray, 0, index);
+            System.arraycopy(oldArray, index, backingArray, index + 1, size - index);
         } else {
-            if (index == size) {
-                backingArray[index] = data;
-            } else {   //index < size is always true (other conditions have been checked before).
-                for (int i = size - 1; i >= 0; i--) {
-                    backingArray[i + 1] = backingArray[i];
-                    if (i == index) {
-                        backingArray[i] = data;
-                        break;
-                    }
-                }
-            }
+            System.arraycopy(backingArray, index, backingArray, index + 1, size - index);
         }
+        backingArray[index] = data;
         //increase the size
         size++;
     }
@@ -108,12 +110,100 @@ public class ArrayList<T> {
         addAtIndex(size, data);
     }
 
+    /**
+     * Adds all of the items, in order, starting at the specified index.
+     *
+     * The elements after index are shifted once, by items.length, and the
+     * backing array is resized at most once, so this is O(n + k) rather
+     * than the O(n * k) of k calls to addAtIndex.
+     *
+     * @param index the index at which to add the first item
+     * @param items the items to add
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if items or any item is null
+     */
+    public void addAll(int index, T[] items) {
+
+        if (index < 0) {
+            throw new java.lang.IndexOutOfBoundsException("Index cannot be negative.");
+        } else if (index > size) {
+            throw new java.lang.IndexOutOfBoundsException("Index cannot be more than the size of the ArrayList.");
+        }
+
+        if (items == null) {
+            throw new java.lang.IllegalArgumentException("Items cannot be null.");
+        }
+        for (T item : items) {
+            if (item == null) {
+                throw new java.lang.IllegalArgumentException("Data cannot be null.");
+            }
+        }
+
+        int count = items.length;
+        if (size + count > backingArray.length) {
+            T[] oldArray = backingArray;
+            backingArray = (T[]) new Object[Math.max(size + count, 2 * oldArray.length)];
+            System.arraycopy(oldArray, 0, backingArray, 0, index);
+            System.arraycopy(oldArray, index, backingArray, index + count, size - index);
+        } else {
+            System.arraycopy(backingArray, index, backingArray, index + count, size - index);
+        }
+
+        System.arraycopy(items, 0, backingArray, index, count);
+        size += count;
+    }
+
+    /**
+     * Adds all of the items, in order, to the back of the list.
+     *
+     * Must be amortized O(k) for k items.
+     *
+     * @param items the items to add
+     * @throws java.lang.IllegalArgumentException if items or any item is null
+     */
+    public void addAllToBack(T[] items) {
+        addAll(size, items);
+    }
+
+    /**
+     * Removes the elements from index from (inclusive) to index to
+     * (exclusive), shifting the elements after them down in one block.
+     *
+     * Must be O(n).
+     *
+     * @param from the index of the first element to remove
+     * @param to   the index after the last element to remove
+     * @throws java.lang.IndexOutOfBoundsException if from < 0, to > size or
+     *                                             from > to
+     */
+    public void removeRange(int from, int to) {
+
+        if (from < 0) {
+            throw new java.lang.IndexOutOfBoundsException("Index cannot be negative.");
+        } else if (to > size) {
+            throw new java.lang.IndexOutOfBoundsException("Index cannot be more than the size of the ArrayList.");
+        } else if (from > to) {
+            throw new java.lang.IndexOutOfBoundsException("From cannot be more than to.");
+        }
+
+        int count = to - from;
+        System.arraycopy(backingArray, to, backingArray, from, size - to);
+        for (int i = size - count; i < size; i++) {
+            backingArray[i] = null;
+        }
+        size -= count;
+        shrinkIfSparse();
+    }
+
     /**
      * Removes and returns the element at the specified index.
      *
      * Remember that this remove may require elements to be shifted.
      *
-     * Must be O(1) for index size - 1 and O(n) for all other cases.
+     * Halves the backing array once the list is a quarter full, never
+     * below INITIAL_CAPACITY.
+     *
+     * Must be amortized O(1) for index size - 1 and O(n) for all other cases.
      *
      * @param index the index of the element to remove
      * @return the data formerly located at the specified index
@@ -127,21 +217,13 @@ public class ArrayList<T> {
             throw new java.lang.IndexOutOfBoundsException("Index cannot be more than the size of the ArrayList.");
         }
 
-        T returnValue = null;
-
-        if (index == size - 1) {
-            returnValue = backingArray[index];
-            backingArray[index] = null;
-        } else {
-            returnValue = backingArray[index];
-            for (int i = index; i < size - 1; i++) {
-                backingArray[i] = backingArray[i + 1];
-            }
-            backingArray[size - 1] = null;
-        }
+        T returnValue = backingArray[index];
+        System.arraycopy(backingArray, index + 1, backingArray, index, size - index - 1);
+        backingArray[size - 1] = null;
 
         //Decrease the size.
         size--;
+        shrinkIfSparse();
         return returnValue;
     }
 
@@ -162,7 +244,7 @@ public class ArrayList<T> {
     /**
      * Removes and returns the last element of the list.
      *
-     * Must be O(1).
+     * Must be amortized O(1).
      *
      * @return the data formerly located at the back of the list
      * @throws java.util.NoSuchElementException if the list is empty
@@ -204,10 +286,152 @@ public class ArrayList<T> {
      * Must be O(1).
      */
     public void clear() {
-        backingArray = (T[]) new Object[backingArray.length];
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
         size = 0;
     }
 
+    /**
+     * Makes sure the backing array can hold at least minCapacity elements
+     * without growing again, so a known number of adds only copies once.
+     *
+     * Grows to double the current length, or to minCapacity if that is
+     * larger. A remove while the list is a quarter full or less shrinks the
+     * array again.
+     *
+     * @param minCapacity the capacity needed
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > backingArray.length) {
+            T[] oldArray = backingArray;
+            backingArray = (T[]) new Object[Math.max(minCapacity, 2 * oldArray.length)];
+            System.arraycopy(oldArray, 0, backingArray, 0, size);
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the size of the list (but not below 1),
+     * giving back the space left over after a burst of adds.
+     */
+    public void trimToSize() {
+        if (backingArray.length > Math.max(size, 1)) {
+            T[] oldArray = backingArray;
+            backingArray = (T[]) new Object[Math.max(size, 1)];
+            System.arraycopy(oldArray, 0, backingArray, 0, size);
+        }
+    }
+
+    /**
+     * Private helper that halves the backing array while the list is a
+     * quarter full or less, never below INITIAL_CAPACITY.
+     */
+    private void shrinkIfSparse() {
+        int length = backingArray.length;
+        while (size <= length / 4 && length > INITIAL_CAPACITY) {
+            length = Math.max(INITIAL_CAPACITY, length / 2);
+        }
+        if (length != backingArray.length) {
+            T[] oldArray = backingArray;
+            backingArray = (T[]) new Object[length];
+            System.arraycopy(oldArray, 0, backingArray, 0, size);
+        }
+    }
+
+    /**
+     * Performs the action on every element of the list, in parallel on the
+     * common fork-join pool. The order the elements are visited in is not
+     * defined.
+     *
+     * The list must not be modified until this returns.
+     *
+     * @param action the action to perform on each element
+     * @throws java.lang.IllegalArgumentException if action is null
+     */
+    public void parallelForEach(Consumer<? super T> action) {
+
+        if (action == null) {
+            throw new java.lang.IllegalArgumentException("Action cannot be null.");
+        }
+
+        parallelStream().forEach(action);
+    }
+
+    /**
+     * Replaces every element of the list with the result of applying the
+     * operator to it, in parallel on the common fork-join pool.
+     *
+     * The results are collected into a new backing array, so if the
+     * operator returns null the list is left unchanged.
+     *
+     * @param operator the operator to apply to each element
+     * @throws java.lang.IllegalArgumentException if operator is null or
+     *                                            returns null
+     */
+    public void parallelReplaceAll(UnaryOperator<T> operator) {
+
+        if (operator == null) {
+            throw new java.lang.IllegalArgumentException("Operator cannot be null.");
+        }
+
+        T[] oldArray = backingArray;
+        T[] newArray = (T[]) new Object[oldArray.length];
+        IntStream.range(0, size).parallel().forEach(i -> {
+            T result = operator.apply(oldArray[i]);
+            if (result == null) {
+                throw new java.lang.IllegalArgumentException("Data cannot be null.");
+            }
+            newArray[i] = result;
+        });
+        backingArray = newArray;
+    }
+
+    /**
+     * Sorts the list with the comparator, using Arrays.parallelSort on the
+     * occupied part of the backing array. The sort is stable.
+     *
+     * @param comparator the comparator that orders the elements
+     * @throws java.lang.IllegalArgumentException if comparator is null
+     */
+    public void parallelSort(Comparator<? super T> comparator) {
+
+        if (comparator == null) {
+            throw new java.lang.IllegalArgumentException("Comparator cannot be null.");
+        }
+
+        Arrays.parallelSort(backingArray, 0, size, comparator);
+    }
+
+    /**
+     * Returns a Spliterator over the elements of the list that splits by
+     * halving its index range, so parallel streams divide the work evenly
+     * and know the exact size of every part.
+     *
+     * The Spliterator reads the backing array directly. The list must not be
+     * modified while it is in use.
+     *
+     * @return a Spliterator over the list
+     */
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator<>(backingArray, 0, size);
+    }
+
+    /**
+     * Returns a sequential Stream over the elements of the list.
+     *
+     * @return a Stream over the list
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a parallel Stream over the elements of the list.
+     *
+     * @return a parallel Stream over the list
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     /**
      * Returns the backing array of the list.
      *
@@ -234,4 +458,66 @@ public class ArrayList<T> {
         return size;
     }
 
+    /**
+     * A Spliterator over a range of an array, split in half by index.
+     */
+    private static class ArraySpliterator<T> implements Spliterator<T> {
+
+        private final T[] array;
+        private int index;
+        private final int fence;
+
+        /**
+         * Constructs a new ArraySpliterator over array from index
+         * (inclusive) to fence (exclusive).
+         *
+         * @param array the array to read
+         * @param index the first index
+         * @param fence the index after the last one
+         */
+        ArraySpliterator(T[] array, int index, int fence) {
+            this.array = array;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (index < fence) {
+                action.accept(array[index++]);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            int end = fence;
+            for (int i = index; i < end; i++) {
+                action.accept(array[i]);
+            }
+            index = end;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            Spliterator<T> prefix = new ArraySpliterator<>(array, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
 }
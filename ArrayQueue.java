@@ -56,18 +56,38 @@ public class ArrayQueue<T> {
         }
 
         if (size == backingArray.length) {
-            T[] oldArray = backingArray;
-            backingArray = (T[]) new Object[2 * backingArray.length];
-            for (int i = 0; i < oldArray.length; i++) {
-                backingArray[i] = oldArray[(i + front + size)% oldArray.length];
-            }
-            front = 0;
+            grow();
         }
         backingArray[(front + size) % backingArray.length] = data;
         size++;
 
     }
 
+    /**
+     * Adds the data to the front of the queue, so it is the next one
+     * dequeued.
+     *
+     * Resizes the same way enqueue does if the backing array is full.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the front of the queue
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addFirst(T data) {
+
+        if (data == null) {
+            throw new java.lang.IllegalArgumentException("Data cannot be null.");
+        }
+
+        if (size == backingArray.length) {
+            grow();
+        }
+        front = (front - 1 + backingArray.length) % backingArray.length;
+        backingArray[front] = data;
+        size++;
+    }
+
     /**
      * Removes and returns the data from the front of the queue.
      *
@@ -114,6 +134,48 @@ public class ArrayQueue<T> {
         return backingArray[front];
     }
 
+    /**
+     * Removes and returns the data from the back of the queue, the one most
+     * recently enqueued.
+     *
+     * Replaces the spot it removes from with null. Does not shrink the
+     * backing array or move front.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the back of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T removeLast() {
+
+        if (size == 0) {
+            throw new NoSuchElementException("The Stack is Empty.");
+        }
+
+        int back = (front + size - 1) % backingArray.length;
+        T removeElement = backingArray[back];
+        backingArray[back] = null;
+        size--;
+        return removeElement;
+    }
+
+    /**
+     * Returns the data from the back of the queue without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the data located at the back of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T peekLast() {
+
+        if (size == 0) {
+            throw new NoSuchElementException("The Stack is Empty.");
+        }
+
+        return backingArray[(front + size - 1) % backingArray.length];
+    }
+
     /**
      * Returns the backing array of the queue.
      *
@@ -152,4 +214,17 @@ public class ArrayQueue<T> {
         // DO NOT MODIFY THIS METHOD!
         return size;
     }
+
+    /**
+     * Private helper that doubles the backing array, copying the elements to
+     * the beginning of the new array and resetting front to 0.
+     */
+    private void grow() {
+        T[] oldArray = backingArray;
+        backingArray = (T[]) new Object[2 * backingArray.length];
+        int frontPart = oldArray.length - front;
+        System.arraycopy(oldArray, front, backingArray, 0, frontPart);
+        System.arraycopy(oldArray, 0, backingArray, frontPart, front);
+        front = 0;
+    }
 }
@@ -0,0 +1,402 @@
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded, thread-safe ArrayQueue whose producers wait (or drop, or fail)
+ * when it is full instead of growing the backing array.
+ *
+ * The elements use the same circular layout as ArrayQueue: a fixed
+ * backingArray, the index of the front element, and a size. All access goes
+ * through one ReentrantLock, and threads wait on its notFull and notEmpty
+ * Conditions. Unlike synchronized and Object.wait, waiting on a Condition
+ * lets a virtual thread unmount from its carrier thread, so thousands of
+ * blocked producers or consumers don't tie up the carrier pool.
+ *
+ * What enqueue does when the queue is full is set by a Backpressure policy.
+ * put, take and the timed offer and poll always wait, whatever the policy.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class BoundedBlockingArrayQueue<T> {
+
+    /**
+     * What enqueue does when the queue is full.
+     */
+    public enum Backpressure {
+
+        /*
+         * Wait until a consumer makes room.
+         */
+        BLOCK,
+
+        /*
+         * Throw away the element at the front to make room.
+         */
+        DROP_OLDEST,
+
+        /*
+         * Throw away the element being enqueued.
+         */
+        DROP_NEWEST,
+
+        /*
+         * Throw an IllegalStateException.
+         */
+        FAIL
+    }
+
+    private final T[] backingArray;
+    private final Backpressure backpressure;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+    private int front;
+    private int size;
+    private long dropped;
+
+    /**
+     * Constructs a new BoundedBlockingArrayQueue that blocks when full.
+     *
+     * @param capacity the most elements the queue holds
+     * @throws java.lang.IllegalArgumentException if capacity is not positive
+     */
+    public BoundedBlockingArrayQueue(int capacity) {
+        this(capacity, Backpressure.BLOCK);
+    }
+
+    /**
+     * Constructs a new BoundedBlockingArrayQueue.
+     *
+     * @param capacity     the most elements the queue holds
+     * @param backpressure what enqueue does when the queue is full
+     * @throws java.lang.IllegalArgumentException if capacity is not positive
+     *                                            or backpressure is null
+     */
+    public BoundedBlockingArrayQueue(int capacity, Backpressure backpressure) {
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        } else if (backpressure == null) {
+            throw new IllegalArgumentException("Backpressure cannot be null.");
+        }
+
+        backingArray = (T[]) new Object[capacity];
+        this.backpressure = backpressure;
+        lock = new ReentrantLock();
+        notEmpty = lock.newCondition();
+        notFull = lock.newCondition();
+    }
+
+    /**
+     * Adds the data to the back of the queue, applying the backpressure
+     * policy if the queue is full.
+     *
+     * @param data the data to add to the back of the queue
+     * @return true if the data was added, false if it was dropped
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.IllegalStateException    if the queue is full and the
+     *                                            policy is FAIL
+     * @throws java.lang.InterruptedException     if interrupted while waiting
+     *                                            under the BLOCK policy
+     */
+    public boolean enqueue(T data) throws InterruptedException {
+
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+
+        lock.lockInterruptibly();
+        try {
+            if (size == backingArray.length) {
+                switch (backpressure) {
+                    case BLOCK:
+                        while (size == backingArray.length) {
+                            notFull.await();
+                        }
+                        break;
+                    case DROP_OLDEST:
+                        removeFront();
+                        dropped++;
+                        break;
+                    case DROP_NEWEST:
+                        dropped++;
+                        return false;
+                    default:
+                        throw new IllegalStateException("The queue is full.");
+                }
+            }
+            addBack(data);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the data to the back of the queue, waiting for room if needed.
+     *
+     * @param data the data to add to the back of the queue
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.InterruptedException     if interrupted while waiting
+     */
+    public void put(T data) throws InterruptedException {
+
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+
+        lock.lockInterruptibly();
+        try {
+            while (size == backingArray.length) {
+                notFull.await();
+            }
+            addBack(data);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the data to the back of the queue if there is room, without
+     * waiting.
+     *
+     * @param data the data to add to the back of the queue
+     * @return true if the data was added, false if the queue is full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+
+        lock.lock();
+        try {
+            if (size == backingArray.length) {
+                return false;
+            }
+            addBack(data);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds the data to the back of the queue, waiting up to the timeout for
+     * room.
+     *
+     * @param data    the data to add to the back of the queue
+     * @param timeout how long to wait
+     * @param unit    the unit of timeout
+     * @return true if the data was added, false if the timeout ran out
+     * @throws java.lang.IllegalArgumentException if data or unit is null
+     * @throws java.lang.InterruptedException     if interrupted while waiting
+     */
+    public boolean offer(T data, long timeout, TimeUnit unit) throws InterruptedException {
+
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        } else if (unit == null) {
+            throw new IllegalArgumentException("Unit cannot be null.");
+        }
+
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == backingArray.length) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            addBack(data);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, waiting for
+     * an element if needed.
+     *
+     * @return the data formerly located at the front of the queue
+     * @throws java.lang.InterruptedException if interrupted while waiting
+     */
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return removeFront();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, if any,
+     * without waiting.
+     *
+     * @return the data formerly located at the front of the queue, or null
+     * if the queue is empty
+     */
+    public T poll() {
+        lock.lock();
+        try {
+            return (size == 0) ? null : removeFront();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, waiting up
+     * to the timeout for an element.
+     *
+     * @param timeout how long to wait
+     * @param unit    the unit of timeout
+     * @return the data formerly located at the front of the queue, or null
+     * if the timeout ran out
+     * @throws java.lang.IllegalArgumentException if unit is null
+     * @throws java.lang.InterruptedException     if interrupted while waiting
+     */
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+
+        if (unit == null) {
+            throw new IllegalArgumentException("Unit cannot be null.");
+        }
+
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return removeFront();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T dequeue() {
+        T data = poll();
+        if (data == null) {
+            throw new NoSuchElementException("The queue is empty.");
+        }
+        return data;
+    }
+
+    /**
+     * Returns the data from the front of the queue without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the data located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T peek() {
+        lock.lock();
+        try {
+            if (size == 0) {
+                throw new NoSuchElementException("The queue is empty.");
+            }
+            return backingArray[front];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the backpressure policy of the queue.
+     *
+     * @return the backpressure policy
+     */
+    public Backpressure getBackpressure() {
+        return backpressure;
+    }
+
+    /**
+     * Returns the capacity of the queue.
+     *
+     * @return the capacity of the queue
+     */
+    public int getCapacity() {
+        return backingArray.length;
+    }
+
+    /**
+     * Returns the number of elements enqueue has thrown away under the
+     * DROP_OLDEST or DROP_NEWEST policy.
+     *
+     * @return the number of dropped elements
+     */
+    public long getDropped() {
+        lock.lock();
+        try {
+            return dropped;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the size of the queue.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Private helper that adds data at the back and wakes a consumer. The
+     * lock must be held and the queue must not be full.
+     *
+     * @param data the data to add
+     */
+    private void addBack(T data) {
+        backingArray[(front + size) % backingArray.length] = data;
+        size++;
+        notEmpty.signal();
+    }
+
+    /**
+     * Private helper that removes the front element and wakes a producer.
+     * The lock must be held and the queue must not be empty.
+     *
+     * @return the removed element
+     */
+    private T removeFront() {
+        T removeElement = backingArray[front];
+        backingArray[front] = null;
+        front = (front + 1) % backingArray.length;
+        size--;
+        notFull.signal();
+        return removeElement;
+    }
+}
@@ -0,0 +1,573 @@
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A chaining HashMap that holds at most maxSize entries, for use as a
+ * cache.
+ *
+ * The entries are ExternalChainingMapEntry objects that also link into a
+ * doubly linked recency list, so finding the entry to evict and moving an
+ * entry on a hit are both O(1). The table is sized for maxSize up front and
+ * never resizes.
+ *
+ * Two eviction policies are supported:
+ *   LRU      - the least recently used entry is evicted.
+ *   TINY_LFU - a W-TinyLFU style policy. New entries go into a small LRU
+ *              window (about 1% of maxSize). When the window overflows, its
+ *              least recent entry has to compete with the least recent entry
+ *              of the main LRU to stay in the cache: the one that has been
+ *              used less often (by a count-min sketch of recent key
+ *              frequencies) is evicted. This stops a burst of one-off keys
+ *              from flushing out the keys that are used all the time.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class BoundedChainingCache<K, V> {
+
+    /*
+     * The max load factor the table is sized for.
+     */
+    public static final double MAX_LOAD_FACTOR = 0.67;
+
+    /**
+     * How entries are chosen for eviction.
+     */
+    public enum EvictionPolicy {
+        LRU,
+        TINY_LFU
+    }
+
+    private final EvictionPolicy policy;
+    private final int maxSize;
+    private final ExternalChainingMapEntry<K, V>[] table;
+    private final LruList<K, V> window;
+    private final LruList<K, V> main;
+    private final int windowMax;
+    private final FrequencySketch sketch;
+    private int size;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    /**
+     * Constructs a new BoundedChainingCache.
+     *
+     * @param maxSize the most entries the cache holds
+     * @param policy  the eviction policy
+     * @throws java.lang.IllegalArgumentException if maxSize is not positive or
+     *                                            policy is null
+     */
+    public BoundedChainingCache(int maxSize, EvictionPolicy policy) {
+
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Max size must be positive.");
+        } else if (policy == null) {
+            throw new IllegalArgumentException("Policy cannot be null.");
+        }
+
+        this.maxSize = maxSize;
+        this.policy = policy;
+        table = new ExternalChainingMapEntry[(int) (maxSize / MAX_LOAD_FACTOR) + 1];
+        window = new LruList<>();
+        main = new LruList<>();
+
+        if (policy == EvictionPolicy.LRU) {
+            windowMax = maxSize;
+            sketch = null;
+        } else {
+            windowMax = Math.max(1, maxSize / 100);
+            sketch = new FrequencySketch(maxSize);
+        }
+    }
+
+    /**
+     * Adds the given key-value pair to the cache, or replaces the value if
+     * the key is already in it. Either way the entry becomes the most
+     * recently used.
+     *
+     * If the cache goes over maxSize, an entry is evicted as the policy
+     * says. With TINY_LFU that can be the new entry itself, later on, if it
+     * is not used again before it leaves the window.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return null if the key was not already in the cache. If it was,
+     * return the old value associated with it
+     * @throws java.lang.IllegalArgumentException if key or value is null
+     */
+    public V put(K key, V value) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+
+        if (sketch != null) {
+            sketch.increment(key.hashCode());
+        }
+
+        CacheEntry<K, V> entry = find(key);
+        if (entry != null) {
+            V returnValue = entry.getValue();
+            entry.setValue(value);
+            touch(entry);
+            return returnValue;
+        }
+
+        int index = Math.abs((key.hashCode()) % (table.length));
+        entry = new CacheEntry<>(key, value, table[index]);
+        table[index] = entry;
+        entry.inWindow = true;
+        window.addFirst(entry);
+        size++;
+
+        if (window.size > windowMax) {
+            overflowWindow();
+        }
+        return null;
+    }
+
+    /**
+     * Gets the value associated with the given key and makes it the most
+     * recently used. Counts as a hit or a miss.
+     *
+     * @param key the key to search for in the cache
+     * @return the value associated with the given key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the
+     *                                            cache
+     */
+    public V get(K key) {
+
+        V value = getIfPresent(key);
+        if (value == null) {
+            throw new NoSuchElementException("Key is not in the cache.");
+        }
+        return value;
+    }
+
+    /**
+     * Same as get, but returns null instead of throwing on a miss, which is
+     * much cheaper when misses are common.
+     *
+     * @param key the key to search for in the cache
+     * @return the value associated with the given key, or null
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public V getIfPresent(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        if (sketch != null) {
+            sketch.increment(key.hashCode());
+        }
+
+        CacheEntry<K, V> entry = find(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        touch(entry);
+        return entry.getValue();
+    }
+
+    /**
+     * Returns whether or not the key is in the cache. Does not count as a
+     * use of the key.
+     *
+     * @param key the key to search for in the cache
+     * @return true if the key is in the cache, false otherwise
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public boolean containsKey(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        return find(key) != null;
+    }
+
+    /**
+     * Removes the entry with a matching key from the cache.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the
+     *                                            cache
+     */
+    public V remove(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        CacheEntry<K, V> entry = find(key);
+        if (entry == null) {
+            throw new NoSuchElementException("Key is not in the cache.");
+        }
+        unlink(entry);
+        return entry.getValue();
+    }
+
+    /**
+     * Returns a Set of the keys contained in this cache.
+     *
+     * @return the set of keys in this cache
+     */
+    public Set<K> keySet() {
+
+        Set<K> returnKeySet = new HashSet<>();
+
+        for (int i = 0; i < table.length; i++) {
+            for (ExternalChainingMapEntry<K, V> e = table[i]; e != null; e = e.getNext()) {
+                returnKeySet.add(e.getKey());
+            }
+        }
+
+        return returnKeySet;
+    }
+
+    /**
+     * Returns a List of the values contained in this cache, in order of
+     * increasing table index and then chain order.
+     *
+     * @return list of values in this cache
+     */
+    public List<V> values() {
+
+        List<V> valueList = new ArrayList<>();
+
+        for (int i = 0; i < table.length; i++) {
+            for (ExternalChainingMapEntry<K, V> e = table[i]; e != null; e = e.getNext()) {
+                valueList.add(e.getValue());
+            }
+        }
+
+        return valueList;
+    }
+
+    /**
+     * Clears the cache. The statistics and key frequencies are kept.
+     */
+    public void clear() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = null;
+        }
+        window.clear();
+        main.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the number of get calls that found their key.
+     *
+     * @return the number of hits
+     */
+    public long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of get calls that did not find their key.
+     *
+     * @return the number of misses
+     */
+    public long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Returns the fraction of get calls that found their key.
+     *
+     * @return the hit rate, 0 if get has not been called
+     */
+    public double getHitRate() {
+        return (hits + misses == 0) ? 0 : (double) hits / (hits + misses);
+    }
+
+    /**
+     * Returns the number of entries evicted to stay within maxSize.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        return evictions;
+    }
+
+    /**
+     * Returns the most entries the cache holds.
+     *
+     * @return the max size
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the eviction policy of the cache.
+     *
+     * @return the policy
+     */
+    public EvictionPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns the size of the cache.
+     *
+     * @return the size of the cache
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Private helper that deals with the window being one entry too big:
+     * its least recent entry either moves to the main list (if there is room
+     * or it wins against the main list's least recent entry) or is evicted.
+     */
+    private void overflowWindow() {
+        CacheEntry<K, V> candidate = window.tail;
+        window.remove(candidate);
+
+        if (size <= maxSize) {
+            candidate.inWindow = false;
+            main.addFirst(candidate);
+            return;
+        }
+
+        CacheEntry<K, V> victim = main.tail;
+        if (victim != null
+            && sketch.frequency(candidate.getKey().hashCode()) > sketch.frequency(victim.getKey().hashCode())) {
+            evict(victim);
+            candidate.inWindow = false;
+            main.addFirst(candidate);
+        } else {
+            // Put back so evict can unlink it from the list it is in.
+            window.addFirst(candidate);
+            evict(candidate);
+        }
+    }
+
+    /**
+     * Private helper that evicts an entry.
+     *
+     * @param entry the entry to evict
+     */
+    private void evict(CacheEntry<K, V> entry) {
+        unlink(entry);
+        evictions++;
+    }
+
+    /**
+     * Private helper that moves an entry to the front of the list it is in.
+     *
+     * @param entry the entry
+     */
+    private void touch(CacheEntry<K, V> entry) {
+        LruList<K, V> list = entry.inWindow ? window : main;
+        list.remove(entry);
+        list.addFirst(entry);
+    }
+
+    /**
+     * Private helper that removes an entry from its chain and its list.
+     *
+     * @param entry the entry
+     */
+    private void unlink(CacheEntry<K, V> entry) {
+        int index = Math.abs((entry.getKey().hashCode()) % (table.length));
+
+        if (table[index] == entry) {
+            table[index] = entry.getNext();
+        } else {
+            ExternalChainingMapEntry<K, V> prevEntry = table[index];
+            while (prevEntry.getNext() != entry) {
+                prevEntry = prevEntry.getNext();
+            }
+            prevEntry.setNext(entry.getNext());
+        }
+
+        (entry.inWindow ? window : main).remove(entry);
+        size--;
+    }
+
+    /**
+     * Private helper that finds the entry for key.
+     *
+     * @param key the key to search for
+     * @return the entry, or null if the key is not in the cache
+     */
+    private CacheEntry<K, V> find(K key) {
+        ExternalChainingMapEntry<K, V> currEntry = table[Math.abs((key.hashCode()) % (table.length))];
+
+        while (currEntry != null && !currEntry.getKey().equals(key)) {
+            currEntry = currEntry.getNext();
+        }
+        return (CacheEntry<K, V>) currEntry;
+    }
+
+    /**
+     * A map entry that is also a node of a recency list.
+     */
+    private static final class CacheEntry<K, V> extends ExternalChainingMapEntry<K, V> {
+        private CacheEntry<K, V> before;
+        private CacheEntry<K, V> after;
+        private boolean inWindow;
+
+        /**
+         * Creates an entry at the front of a chain.
+         *
+         * @param key   the key
+         * @param value the value
+         * @param next  the rest of the chain
+         */
+        CacheEntry(K key, V value, ExternalChainingMapEntry<K, V> next) {
+            super(key, value, next);
+        }
+    }
+
+    /**
+     * A doubly linked list of entries from most (head) to least (tail)
+     * recently used.
+     */
+    private static final class LruList<K, V> {
+        private CacheEntry<K, V> head;
+        private CacheEntry<K, V> tail;
+        private int size;
+
+        /**
+         * Adds an entry at the front.
+         *
+         * @param entry the entry, not in any list
+         */
+        void addFirst(CacheEntry<K, V> entry) {
+            entry.before = null;
+            entry.after = head;
+            if (head == null) {
+                tail = entry;
+            } else {
+                head.before = entry;
+            }
+            head = entry;
+            size++;
+        }
+
+        /**
+         * Removes an entry from the list.
+         *
+         * @param entry an entry in this list
+         */
+        void remove(CacheEntry<K, V> entry) {
+            if (entry.before == null) {
+                head = entry.after;
+            } else {
+                entry.before.after = entry.after;
+            }
+            if (entry.after == null) {
+                tail = entry.before;
+            } else {
+                entry.after.before = entry.before;
+            }
+            entry.before = null;
+            entry.after = null;
+            size--;
+        }
+
+        /**
+         * Empties the list.
+         */
+        void clear() {
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+
+    /**
+     * A count-min sketch of how often keys were used recently, with 4-bit
+     * counters. Every 10 * maxSize uses all counters are halved, so old
+     * popularity fades away.
+     */
+    private static final class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+
+        private final byte[] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int samples;
+
+        /**
+         * Creates a sketch sized for a cache of maxSize entries.
+         *
+         * @param maxSize the cache's max size
+         */
+        FrequencySketch(int maxSize) {
+            int width = TableSizing.POWER_OF_TWO.tableLength(Math.max(16, maxSize));
+            counters = new byte[DEPTH * width];
+            mask = width - 1;
+            sampleSize = 10 * maxSize;
+        }
+
+        /**
+         * Records a use of a key.
+         *
+         * @param hashCode the key's hash code
+         */
+        void increment(int hashCode) {
+            for (int row = 0; row < DEPTH; row++) {
+                int index = slot(hashCode, row);
+                if (counters[index] < MAX_COUNT) {
+                    counters[index]++;
+                }
+            }
+            if (++samples >= sampleSize) {
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] >>= 1;
+                }
+                samples /= 2;
+            }
+        }
+
+        /**
+         * Returns the estimated number of recent uses of a key.
+         *
+         * @param hashCode the key's hash code
+         * @return the estimate, at most MAX_COUNT
+         */
+        int frequency(int hashCode) {
+            int min = MAX_COUNT;
+            for (int row = 0; row < DEPTH; row++) {
+                min = Math.min(min, counters[slot(hashCode, row)]);
+            }
+            return min;
+        }
+
+        /**
+         * Returns the counter of a key in a row.
+         *
+         * @param hashCode the key's hash code
+         * @param row      the row
+         * @return the index into counters
+         */
+        private int slot(int hashCode, int row) {
+            int hash = TableSizing.mix(hashCode + row * 0x9e3779b9);
+            return row * (mask + 1) + (hash & mask);
+        }
+    }
+}
@@ -0,0 +1,385 @@
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An ExternalChainingHashMap whose table sizing is chosen when it is
+ * constructed.
+ *
+ * With TableSizing.MODULO it behaves exactly like ExternalChainingHashMap.
+ * With TableSizing.POWER_OF_TWO the table length is always a power of two and
+ * bucket indices are computed with a mask on a mixed hash code, which avoids
+ * an integer division on every operation.
+ *
+ * Metrics can be turned on with enableMetrics(). While they are off the only
+ * cost is a null check per operation.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class ChainingHashMap<K, V> {
+
+    /*
+     * The initial capacity of the map when created with the default
+     * constructor.
+     */
+    public static final int INITIAL_CAPACITY = 13;
+
+    /*
+     * The max load factor of the map.
+     */
+    public static final double MAX_LOAD_FACTOR = 0.67;
+
+    private final TableSizing sizing;
+    private ExternalChainingMapEntry<K, V>[] table;
+    private int size;
+    private HashMapMetrics metrics;
+
+    /**
+     * Constructs a new ChainingHashMap with a capacity of INITIAL_CAPACITY
+     * and TableSizing.MODULO.
+     */
+    public ChainingHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new ChainingHashMap with TableSizing.MODULO.
+     *
+     * You may assume capacity will always be positive.
+     *
+     * @param capacity the initial capacity of the backing array
+     */
+    public ChainingHashMap(int capacity) {
+        this(capacity, TableSizing.MODULO);
+    }
+
+    /**
+     * Constructs a new ChainingHashMap.
+     *
+     * You may assume capacity will always be positive.
+     *
+     * @param capacity the initial capacity of the backing array, rounded up
+     *                 as the sizing requires
+     * @param sizing   how the table is sized and indexed
+     * @throws java.lang.IllegalArgumentException if sizing is null
+     */
+    public ChainingHashMap(int capacity, TableSizing sizing) {
+
+        if (sizing == null) {
+            throw new IllegalArgumentException("Sizing cannot be null.");
+        }
+
+        this.sizing = sizing;
+        table = new ExternalChainingMapEntry[sizing.tableLength(capacity)];
+        size = 0;
+    }
+
+    /**
+     * Adds the given key-value pair to the map. If an entry in the map
+     * already has this key, replace the entry's value with the new one
+     * passed in.
+     *
+     * New entries are added to the front of their chain. If adding would
+     * exceed MAX_LOAD_FACTOR, the table is first grown as the sizing says.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return null if the key was not already in the map. If it was in the
+     * map, return the old value associated with it
+     * @throws java.lang.IllegalArgumentException if key or value is null
+     */
+    public V put(K key, V value) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+
+        if (((size + 1.0) / table.length) > MAX_LOAD_FACTOR) {
+            resizeBackingTable(sizing.grow(table.length));
+        }
+
+        int index = sizing.indexFor(key.hashCode(), table.length);
+        ExternalChainingMapEntry<K, V> currEntry = table[index];
+        int traversed = 0;
+
+        while (currEntry != null) {
+            traversed++;
+            if (currEntry.getKey().equals(key)) {
+                if (metrics != null) {
+                    metrics.recordProbe(traversed);
+                }
+                V returnValue = currEntry.getValue();
+                currEntry.setValue(value);
+                return returnValue;
+            }
+            currEntry = currEntry.getNext();
+        }
+
+        if (metrics != null) {
+            metrics.recordProbe(traversed);
+        }
+        table[index] = new ExternalChainingMapEntry<>(key, value, table[index]);
+        size++;
+        return null;
+    }
+
+    /**
+     * Removes the entry with a matching key from the map.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    public V remove(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        int index = sizing.indexFor(key.hashCode(), table.length);
+        ExternalChainingMapEntry<K, V> prevEntry = null;
+        ExternalChainingMapEntry<K, V> currEntry = table[index];
+        int traversed = 0;
+
+        while (currEntry != null) {
+            traversed++;
+            if (currEntry.getKey().equals(key)) {
+                if (metrics != null) {
+                    metrics.recordProbe(traversed);
+                }
+                if (prevEntry == null) {
+                    table[index] = currEntry.getNext();
+                } else {
+                    prevEntry.setNext(currEntry.getNext());
+                }
+                size--;
+                return currEntry.getValue();
+            }
+            prevEntry = currEntry;
+            currEntry = currEntry.getNext();
+        }
+
+        if (metrics != null) {
+            metrics.recordProbe(traversed);
+        }
+        throw new NoSuchElementException("Key is not in the map.");
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key the key to search for in the map
+     * @return the value associated with the given key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    public V get(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        ExternalChainingMapEntry<K, V> currEntry = find(key);
+        if (currEntry == null) {
+            throw new NoSuchElementException("Key is not in the map.");
+        }
+        return currEntry.getValue();
+    }
+
+    /**
+     * Returns whether or not the key is in the map.
+     *
+     * @param key the key to search for in the map
+     * @return true if the key is contained within the map, false
+     * otherwise
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public boolean containsKey(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        return find(key) != null;
+    }
+
+    /**
+     * Returns a Set view of the keys contained in this map.
+     *
+     * Use java.util.HashSet.
+     *
+     * @return the set of keys in this map
+     */
+    public Set<K> keySet() {
+
+        Set<K> returnKeySet = new HashSet<>();
+
+        for (int i = 0; i < table.length; i++) {
+            for (ExternalChainingMapEntry<K, V> e = table[i]; e != null; e = e.getNext()) {
+                returnKeySet.add(e.getKey());
+            }
+        }
+
+        return returnKeySet;
+    }
+
+    /**
+     * Returns a List view of the values contained in this map, in order of
+     * increasing table index and then chain order.
+     *
+     * @return list of values in this map
+     */
+    public List<V> values() {
+
+        List<V> valueList = new ArrayList<>();
+
+        for (int i = 0; i < table.length; i++) {
+            for (ExternalChainingMapEntry<K, V> e = table[i]; e != null; e = e.getNext()) {
+                valueList.add(e.getValue());
+            }
+        }
+
+        return valueList;
+    }
+
+    /**
+     * Resize the backing table to length, rounded up as the sizing requires
+     * (to a power of two for TableSizing.POWER_OF_TWO).
+     *
+     * Disregard the load factor for this method. Existing entries are
+     * relinked into the new table, not copied.
+     *
+     * @param length new length of the backing table
+     * @throws java.lang.IllegalArgumentException if length is less than the
+     *                                            number of items in the hash
+     *                                            map
+     */
+    public void resizeBackingTable(int length) {
+
+        if (length < size) {
+            throw new IllegalArgumentException("Length cannot be less than the numbers of items in the hash map.");
+        }
+
+        long start = (metrics != null) ? System.nanoTime() : 0;
+        ExternalChainingMapEntry<K, V>[] oldTable = table;
+        table = new ExternalChainingMapEntry[sizing.tableLength(length)];
+
+        for (ExternalChainingMapEntry<K, V> entry : oldTable) {
+            ExternalChainingMapEntry<K, V> currEntry = entry;
+            while (currEntry != null) {
+                ExternalChainingMapEntry<K, V> nextEntry = currEntry.getNext();
+                int index = sizing.indexFor(currEntry.getKey().hashCode(), table.length);
+
+                currEntry.setNext(table[index]);
+                table[index] = currEntry;
+                currEntry = nextEntry;
+            }
+        }
+
+        if (metrics != null) {
+            metrics.recordResize(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Clears the map.
+     *
+     * Resets the table to a new array of the initial capacity and resets the
+     * size.
+     */
+    public void clear() {
+        table = new ExternalChainingMapEntry[sizing.tableLength(INITIAL_CAPACITY)];
+        size = 0;
+    }
+
+    /**
+     * Starts recording metrics, from zero. Does nothing if they are already
+     * being recorded.
+     */
+    public void enableMetrics() {
+        if (metrics == null) {
+            metrics = new HashMapMetrics();
+        }
+    }
+
+    /**
+     * Stops recording metrics and throws away the counters.
+     */
+    public void disableMetrics() {
+        metrics = null;
+    }
+
+    /**
+     * Returns a snapshot of the metrics recorded so far, including the
+     * current chain length histogram, which takes a walk over the table.
+     *
+     * @return the metrics snapshot
+     * @throws java.lang.IllegalStateException if metrics are not enabled
+     */
+    public HashMapMetrics getMetrics() {
+        if (metrics == null) {
+            throw new IllegalStateException("Metrics are not enabled.");
+        }
+        return metrics.snapshot(table, size);
+    }
+
+    /**
+     * Returns the sizing policy of the map.
+     *
+     * @return the sizing policy
+     */
+    public TableSizing getSizing() {
+        return sizing;
+    }
+
+    /**
+     * Returns the table of the map.
+     *
+     * @return the table of the map
+     */
+    public ExternalChainingMapEntry<K, V>[] getTable() {
+        return table;
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Private helper that finds the entry for key.
+     *
+     * @param key the key to search for
+     * @return the entry, or null if the key is not in the map
+     */
+    private ExternalChainingMapEntry<K, V> find(K key) {
+        ExternalChainingMapEntry<K, V> currEntry = table[sizing.indexFor(key.hashCode(), table.length)];
+        int traversed = 0;
+
+        while (currEntry != null) {
+            traversed++;
+            if (currEntry.getKey().equals(key)) {
+                break;
+            }
+            currEntry = currEntry.getNext();
+        }
+
+        if (metrics != null) {
+            metrics.recordLookup(traversed, currEntry != null);
+        }
+        return currEntry;
+    }
+}
@@ -0,0 +1,654 @@
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A thread safe ExternalChainingHashMap.
+ *
+ * Writers to an empty bucket just CAS the new entry in. Writers to a non-empty
+ * bucket lock one of a fixed set of stripe locks (bucket index mod the number
+ * of stripes), so writers to different stripes never wait on each other.
+ * get and containsKey never lock: chain links and values are volatile, and
+ * entries are never moved between chains in place.
+ *
+ * Resizing is cooperative. The thread that crosses the load factor allocates
+ * the next table, then every writer that runs into the resize claims a range
+ * of old buckets and copies them over, replacing each finished bucket with a
+ * forwarding entry that points readers and writers at the next table. To make
+ * that split cheap, tables are always a power of two long and an old bucket i
+ * only ever moves to buckets i and i + old length.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class ConcurrentChainingHashMap<K, V> {
+
+    /*
+     * The initial capacity of the map when created with the default
+     * constructor. Must be a power of two.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    /*
+     * The max load factor of the map.
+     */
+    public static final double MAX_LOAD_FACTOR = 0.67;
+
+    /*
+     * The default number of stripe locks. Must be a power of two.
+     */
+    public static final int DEFAULT_STRIPES = 64;
+
+    /*
+     * The number of old buckets a thread claims at a time while resizing.
+     */
+    private static final int TRANSFER_STRIDE = 16;
+
+    /*
+     * The hash of a forwarding entry. Real hashes are never negative.
+     */
+    private static final int MOVED = -1;
+
+    private volatile AtomicReferenceArray<Node<K, V>> table;
+    private final AtomicReference<Resize<K, V>> resize;
+    private final Object[] locks;
+    private final AtomicInteger size;
+
+    /**
+     * Constructs a new ConcurrentChainingHashMap with a capacity of
+     * INITIAL_CAPACITY and DEFAULT_STRIPES stripe locks.
+     */
+    public ConcurrentChainingHashMap() {
+        this(INITIAL_CAPACITY, DEFAULT_STRIPES);
+    }
+
+    /**
+     * Constructs a new ConcurrentChainingHashMap.
+     *
+     * @param capacity the initial capacity, rounded up to a power of two
+     * @param stripes  the number of stripe locks, rounded up to a power of two
+     * @throws java.lang.IllegalArgumentException if capacity or stripes is not
+     *                                            positive
+     */
+    public ConcurrentChainingHashMap(int capacity, int stripes) {
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        } else if (stripes < 1) {
+            throw new IllegalArgumentException("Stripes must be positive.");
+        }
+
+        table = new AtomicReferenceArray<>(powerOfTwo(capacity));
+        resize = new AtomicReference<>();
+        locks = new Object[powerOfTwo(stripes)];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+        size = new AtomicInteger();
+    }
+
+    /**
+     * Adds the given key-value pair to the map. If an entry in the map
+     * already has this key, replace the entry's value with the new one
+     * passed in.
+     *
+     * New entries are added to the back of their chain so that lock-free
+     * readers walking the chain always see it in a consistent state. If the
+     * map goes over MAX_LOAD_FACTOR a resize to twice the length is started.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return null if the key was not already in the map. If it was in the
+     * map, return the old value associated with it
+     * @throws java.lang.IllegalArgumentException if key or value is null
+     */
+    public V put(K key, V value) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = table;
+
+        while (true) {
+            int index = hash & (tab.length() - 1);
+            Node<K, V> head = tab.get(index);
+
+            if (head == null) {
+                if (tab.compareAndSet(index, null, new Node<>(hash, key, value))) {
+                    break;
+                }
+            } else if (head.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode<K, V>) head);
+            } else {
+                synchronized (lockFor(index)) {
+                    if (tab.get(index) == head) {
+                        Node<K, V> currNode = head;
+                        while (true) {
+                            if (currNode.hash == hash && currNode.key.equals(key)) {
+                                V returnValue = currNode.value;
+                                currNode.value = value;
+                                return returnValue;
+                            }
+                            if (currNode.next == null) {
+                                currNode.next = new Node<>(hash, key, value);
+                                break;
+                            }
+                            currNode = currNode.next;
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (size.incrementAndGet() > MAX_LOAD_FACTOR * tab.length()) {
+            startResize(tab);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the entry with a matching key from the map.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    public V remove(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = table;
+
+        while (true) {
+            int index = hash & (tab.length() - 1);
+            Node<K, V> head = tab.get(index);
+
+            if (head == null) {
+                throw new NoSuchElementException("Key is not in the map.");
+            } else if (head.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode<K, V>) head);
+            } else {
+                synchronized (lockFor(index)) {
+                    if (tab.get(index) == head) {
+                        Node<K, V> prevNode = null;
+                        for (Node<K, V> currNode = head; currNode != null; currNode = currNode.next) {
+                            if (currNode.hash == hash && currNode.key.equals(key)) {
+                                if (prevNode == null) {
+                                    tab.set(index, currNode.next);
+                                } else {
+                                    prevNode.next = currNode.next;
+                                }
+                                size.decrementAndGet();
+                                return currNode.value;
+                            }
+                            prevNode = currNode;
+                        }
+                        throw new NoSuchElementException("Key is not in the map.");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the value associated with the given key without locking.
+     *
+     * @param key the key to search for in the map
+     * @return the value associated with the given key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    public V get(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        Node<K, V> node = find(key);
+        if (node == null) {
+            throw new NoSuchElementException("Key is not in the map.");
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns whether or not the key is in the map, without locking.
+     *
+     * @param key the key to search for in the map
+     * @return true if the key is contained within the map, false
+     * otherwise
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public boolean containsKey(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        return find(key) != null;
+    }
+
+    /**
+     * Returns a Set of the keys contained in this map.
+     *
+     * The map is not locked, so keys put or removed while this runs may or
+     * may not show up.
+     *
+     * @return the set of keys in this map
+     */
+    public Set<K> keySet() {
+
+        Set<K> returnKeySet = new HashSet<>();
+        List<Node<K, V>> nodes = new ArrayList<>();
+        AtomicReferenceArray<Node<K, V>> tab = table;
+
+        for (int i = 0; i < tab.length(); i++) {
+            collect(tab, i, nodes);
+        }
+        for (Node<K, V> node : nodes) {
+            returnKeySet.add(node.key);
+        }
+
+        return returnKeySet;
+    }
+
+    /**
+     * Returns a List of the values contained in this map.
+     *
+     * The map is not locked, so values put or removed while this runs may or
+     * may not show up.
+     *
+     * @return list of values in this map
+     */
+    public List<V> values() {
+
+        List<V> valueList = new ArrayList<>();
+        List<Node<K, V>> nodes = new ArrayList<>();
+        AtomicReferenceArray<Node<K, V>> tab = table;
+
+        for (int i = 0; i < tab.length(); i++) {
+            collect(tab, i, nodes);
+        }
+        for (Node<K, V> node : nodes) {
+            valueList.add(node.value);
+        }
+
+        return valueList;
+    }
+
+    /**
+     * Grows the backing table to at least length.
+     *
+     * Tables are powers of two and only grow, so length is rounded up to a
+     * power of two and the map is doubled until it is at least that long.
+     * Does nothing if the table is already long enough.
+     *
+     * @param length the minimum length of the backing table
+     * @throws java.lang.IllegalArgumentException if length is less than the
+     *                                            number of items in the hash
+     *                                            map
+     */
+    public void resizeBackingTable(int length) {
+
+        if (length < size.get()) {
+            throw new IllegalArgumentException("Length cannot be less than the numbers of items in the hash map.");
+        }
+
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        while (tab.length() < length) {
+            startResize(tab);
+            if (table == tab) {
+                // Every range was claimed by other threads; let them run
+                // until one publishes the new table.
+                Thread.yield();
+            }
+            tab = table;
+        }
+    }
+
+    /**
+     * Clears the map.
+     *
+     * Empties every bucket one stripe lock at a time, so entries put while
+     * this runs may survive. The table keeps its current length.
+     */
+    public void clear() {
+
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        int index = 0;
+
+        while (index < tab.length()) {
+            Node<K, V> head = tab.get(index);
+
+            if (head == null) {
+                index++;
+            } else if (head.hash == MOVED) {
+                tab = helpTransfer((ForwardingNode<K, V>) head);
+                index = 0;
+            } else {
+                synchronized (lockFor(index)) {
+                    if (tab.get(index) == head) {
+                        int removed = 0;
+                        for (Node<K, V> currNode = head; currNode != null; currNode = currNode.next) {
+                            removed++;
+                        }
+                        tab.set(index, null);
+                        size.addAndGet(-removed);
+                        index++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of buckets in the current table.
+     *
+     * @return the length of the backing table
+     */
+    public int capacity() {
+        return table.length();
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Private helper that finds the node for key without locking, following
+     * forwarding entries into newer tables.
+     *
+     * @param key the key to search for
+     * @return the node, or null if the key is not in the map
+     */
+    private Node<K, V> find(K key) {
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = table;
+        Node<K, V> currNode = tab.get(hash & (tab.length() - 1));
+
+        while (currNode != null) {
+            if (currNode.hash == MOVED) {
+                tab = ((ForwardingNode<K, V>) currNode).nextTable;
+                currNode = tab.get(hash & (tab.length() - 1));
+            } else if (currNode.hash == hash && currNode.key.equals(key)) {
+                return currNode;
+            } else {
+                currNode = currNode.next;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Private helper that adds the nodes of bucket index of tab to nodes,
+     * following a forwarding entry into both buckets it was split into.
+     *
+     * @param tab   the table
+     * @param index the bucket
+     * @param nodes the list to add to
+     */
+    private void collect(AtomicReferenceArray<Node<K, V>> tab, int index, List<Node<K, V>> nodes) {
+        Node<K, V> head = tab.get(index);
+
+        if (head != null && head.hash == MOVED) {
+            AtomicReferenceArray<Node<K, V>> nextTable = ((ForwardingNode<K, V>) head).nextTable;
+            collect(nextTable, index, nodes);
+            collect(nextTable, index + tab.length(), nodes);
+        } else {
+            for (Node<K, V> currNode = head; currNode != null; currNode = currNode.next) {
+                nodes.add(currNode);
+            }
+        }
+    }
+
+    /**
+     * Private helper that starts doubling tab if nobody else has, then helps
+     * with whatever resize is running.
+     *
+     * @param tab the table that went over the load factor
+     */
+    private void startResize(AtomicReferenceArray<Node<K, V>> tab) {
+        Resize<K, V> running = resize.get();
+
+        if (running == null && table == tab) {
+            Resize<K, V> next = new Resize<>(tab);
+            if (resize.compareAndSet(null, next)) {
+                if (table == tab) {
+                    running = next;
+                } else {
+                    // tab was already replaced between the checks.
+                    resize.compareAndSet(next, null);
+                    return;
+                }
+            } else {
+                running = resize.get();
+            }
+        }
+
+        if (running != null) {
+            transfer(running);
+        }
+    }
+
+    /**
+     * Private helper called by writers that ran into a forwarding entry. Helps
+     * finish that resize and returns the table to retry on.
+     *
+     * @param forward the forwarding entry
+     * @return the next table
+     */
+    private AtomicReferenceArray<Node<K, V>> helpTransfer(ForwardingNode<K, V> forward) {
+        transfer(forward.resize);
+        return forward.nextTable;
+    }
+
+    /**
+     * Private helper that claims ranges of old buckets and moves them until
+     * none are left. The thread that moves the last bucket publishes the new
+     * table.
+     *
+     * @param r the resize to help with
+     */
+    private void transfer(Resize<K, V> r) {
+        int oldLength = r.oldTable.length();
+
+        while (true) {
+            int high = r.claimIndex.get();
+            if (high <= 0) {
+                return;
+            }
+            int low = Math.max(0, high - TRANSFER_STRIDE);
+            if (!r.claimIndex.compareAndSet(high, low)) {
+                continue;
+            }
+
+            for (int i = low; i < high; i++) {
+                moveBucket(r, i);
+            }
+
+            if (r.moved.addAndGet(high - low) == oldLength) {
+                table = r.nextTable;
+                resize.compareAndSet(r, null);
+            }
+        }
+    }
+
+    /**
+     * Private helper that copies one old bucket into its two new buckets and
+     * then marks it as moved. The old nodes are copied rather than relinked
+     * so that readers still walking the old chain are not sent down the wrong
+     * one.
+     *
+     * @param r     the resize
+     * @param index the old bucket
+     */
+    private void moveBucket(Resize<K, V> r, int index) {
+        AtomicReferenceArray<Node<K, V>> oldTable = r.oldTable;
+        int oldLength = oldTable.length();
+
+        while (true) {
+            Node<K, V> head = oldTable.get(index);
+
+            if (head == null) {
+                if (oldTable.compareAndSet(index, null, r.forward)) {
+                    return;
+                }
+            } else {
+                synchronized (lockFor(index)) {
+                    if (oldTable.get(index) == head) {
+                        Node<K, V> lowHead = null;
+                        Node<K, V> lowTail = null;
+                        Node<K, V> highHead = null;
+                        Node<K, V> highTail = null;
+
+                        for (Node<K, V> currNode = head; currNode != null; currNode = currNode.next) {
+                            Node<K, V> copy = new Node<>(currNode.hash, currNode.key, currNode.value);
+                            if ((currNode.hash & oldLength) == 0) {
+                                if (lowTail == null) {
+                                    lowHead = copy;
+                                } else {
+                                    lowTail.next = copy;
+                                }
+                                lowTail = copy;
+                            } else {
+                                if (highTail == null) {
+                                    highHead = copy;
+                                } else {
+                                    highTail.next = copy;
+                                }
+                                highTail = copy;
+                            }
+                        }
+
+                        r.nextTable.set(index, lowHead);
+                        r.nextTable.set(index + oldLength, highHead);
+                        oldTable.set(index, r.forward);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Private helper that returns the stripe lock guarding a bucket.
+     *
+     * @param index the bucket
+     * @return the lock
+     */
+    private Object lockFor(int index) {
+        return locks[index & (locks.length - 1)];
+    }
+
+    /**
+     * Private helper that mixes the high bits of a hash code into the low
+     * ones, since only the low bits pick the bucket, and clears the sign bit.
+     *
+     * @param hashCode the key's hash code
+     * @return the spread hash
+     */
+    private static int spread(int hashCode) {
+        return (hashCode ^ (hashCode >>> 16)) & 0x7fffffff;
+    }
+
+    /**
+     * Private helper that rounds n up to a power of two.
+     *
+     * @param n a positive number
+     * @return the smallest power of two that is at least n
+     */
+    private static int powerOfTwo(int n) {
+        return (n <= 1) ? 1 : Integer.highestOneBit(n - 1) << 1;
+    }
+
+    /**
+     * A chain entry. Links and values are volatile so lock-free readers see
+     * writes made under the stripe locks.
+     */
+    private static class Node<K, V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        volatile Node<K, V> next;
+
+        /**
+         * Creates a node.
+         *
+         * @param hash  the spread hash of key
+         * @param key   the key
+         * @param value the value
+         */
+        Node(int hash, K key, V value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Placed in an old bucket once it has been moved. Points at the table the
+     * bucket's entries now live in.
+     */
+    private static final class ForwardingNode<K, V> extends Node<K, V> {
+        final AtomicReferenceArray<Node<K, V>> nextTable;
+        final Resize<K, V> resize;
+
+        /**
+         * Creates a forwarding entry for a resize.
+         *
+         * @param resize the resize
+         */
+        ForwardingNode(Resize<K, V> resize) {
+            super(MOVED, null, null);
+            this.nextTable = resize.nextTable;
+            this.resize = resize;
+        }
+    }
+
+    /**
+     * The state of one doubling of the table, shared by every thread helping
+     * with it.
+     */
+    private static final class Resize<K, V> {
+        final AtomicReferenceArray<Node<K, V>> oldTable;
+        final AtomicReferenceArray<Node<K, V>> nextTable;
+        final ForwardingNode<K, V> forward;
+        final AtomicInteger claimIndex;
+        final AtomicInteger moved;
+
+        /**
+         * Creates the resize of oldTable into a table twice as long.
+         *
+         * @param oldTable the table being replaced
+         */
+        Resize(AtomicReferenceArray<Node<K, V>> oldTable) {
+            this.oldTable = oldTable;
+            this.nextTable = new AtomicReferenceArray<>(2 * oldTable.length());
+            this.forward = new ForwardingNode<>(this);
+            this.claimIndex = new AtomicInteger(oldTable.length());
+            this.moved = new AtomicInteger();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An ArrayList of doubles, backed by a double[] so nothing is boxed.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class DoubleArrayList {
+
+    /*
+     * The initial capacity of the list.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    private double[] backingArray;
+    private int size;
+
+    /**
+     * Constructs a new DoubleArrayList.
+     */
+    public DoubleArrayList() {
+        backingArray = new double[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds the element to the specified index.
+     *
+     * Must be amortized O(1) for index size and O(n) for all other cases.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     */
+    public void addAtIndex(int index, double data) {
+
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        } else if (index > size) {
+            throw new IndexOutOfBoundsException("Index cannot be more than the size of the ArrayList.");
+        }
+
+        if (size == backingArray.length) {
+            backingArray = Arrays.copyOf(backingArray, 2 * backingArray.length);
+        }
+
+        System.arraycopy(backingArray, index, backingArray, index + 1, size - index);
+        backingArray[index] = data;
+        size++;
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Must be O(n).
+     *
+     * @param data the data to add to the front of the list
+     */
+    public void addToFront(double data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the back of the list
+     */
+    public void addToBack(double data) {
+        if (size == backingArray.length) {
+            backingArray = Arrays.copyOf(backingArray, 2 * backingArray.length);
+        }
+        backingArray[size++] = data;
+    }
+
+    /**
+     * Removes and returns the element at the specified index.
+     *
+     * Must be O(1) for index size - 1 and O(n) for all other cases.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public double removeAtIndex(int index) {
+
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        } else if (index >= size) {
+            throw new IndexOutOfBoundsException("Index cannot be more than the size of the ArrayList.");
+        }
+
+        double returnValue = backingArray[index];
+        System.arraycopy(backingArray, index + 1, backingArray, index, size - index - 1);
+        size--;
+        return returnValue;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * Must be O(n).
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public double removeFromFront() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty.");
+        }
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public double removeFromBack() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty.");
+        }
+        return backingArray[--size];
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index is not in the list.");
+        }
+        return backingArray[index];
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Clears the list.
+     *
+     * Resets the backing array to a new array of the initial capacity and
+     * resets the size.
+     */
+    public void clear() {
+        backingArray = new double[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Returns the backing array of the list. Slots at size and after hold
+     * leftover values.
+     *
+     * @return the backing array of the list
+     */
+    public double[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -1,12 +1,29 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 /**
  * Your implementation of a ExternalChainingHashMap.
  *
+ * Entries do not cache their key's hash: ExternalChainingMapEntry has no
+ * field for it, so resizeBackingTable calls hashCode() again for every entry
+ * each time the table is resized. Keys with an expensive hashCode() should
+ * cache it themselves, as String does. Resizing relinks the existing entries
+ * and allocates nothing but the new table, as
+ * ExternalChainingHashMapResizeBenchmark measures.
+ *
  * @author Mythri Muralikannan
  * @version 1.0
  * @userid mmuralikannan3
@@ -32,6 +49,13 @@ public class ExternalChainingHashMap<K, V> {
      */
     public static final double MAX_LOAD_FACTOR = 0.67;
 
+    /*
+     * The snapshot file format written by writeSnapshot.
+     */
+    private static final int SNAPSHOT_MAGIC = 0x45434853;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int SNAPSHOT_BUFFER_SIZE = 1 << 16;
+
     /*
      * Do not add new instance variables or modify existing ones.
      */
@@ -210,6 +234,120 @@ public class ExternalChainingHashMap<K, V> {
         throw new NoSuchElementException("Key is not in the map.");
     }
 
+    /**
+     * Adds every key-value pair in keys and values to the map, as if put was
+     * called for keys[i] and values[i] in order.
+     *
+     * Instead of checking the load factor on every add, the table is grown
+     * once up front (by the same 2 * old length + 1 steps put uses) until it
+     * can hold the current entries plus all of the new ones. Keys that are
+     * duplicates of each other or of existing keys still count towards that,
+     * so the table may end up larger than separate puts would make it.
+     *
+     * Every key and value is checked before anything is added, so the map is
+     * unchanged if an exception is thrown.
+     *
+     * @param keys   the keys to add
+     * @param values the values to add, values[i] belongs to keys[i]
+     * @throws java.lang.IllegalArgumentException if keys or values or any
+     *                                            element of them is null, or
+     *                                            if they have different
+     *                                            lengths
+     */
+    public void putAll(K[] keys, V[] values) {
+
+        if (keys == null) {
+            throw new IllegalArgumentException("Keys cannot be null.");
+        } else if (values == null) {
+            throw new IllegalArgumentException("Values cannot be null.");
+        } else if (keys.length != values.length) {
+            throw new IllegalArgumentException("Keys and values must have the same length.");
+        }
+
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == null) {
+                throw new IllegalArgumentException("Key cannot be null.");
+            } else if (values[i] == null) {
+                throw new IllegalArgumentException("Value cannot be null.");
+            }
+        }
+
+        int length = table.length;
+        while (((double) size + keys.length) / length > MAX_LOAD_FACTOR) {
+            length = 2 * length + 1;
+        }
+        if (length != table.length) {
+            resizeBackingTable(length);
+        }
+
+        for (int i = 0; i < keys.length; i++) {
+            int index = Math.abs((keys[i].hashCode()) % (table.length));
+            ExternalChainingMapEntry<K, V> currEntry = table[index];
+
+            while (currEntry != null && !currEntry.getKey().equals(keys[i])) {
+                currEntry = currEntry.getNext();
+            }
+
+            if (currEntry != null) {
+                currEntry.setValue(values[i]);
+            } else {
+                table[index] = new ExternalChainingMapEntry<>(keys[i], values[i], table[index]);
+                size++;
+            }
+        }
+    }
+
+    /**
+     * Looks up every key in keys and stores its value in out, so out[i] is
+     * the value of keys[i], or null if keys[i] is not in the map.
+     *
+     * The bucket of every key is computed first and the chains are walked in
+     * a second pass, so the table reads are not held up by hashCode calls.
+     *
+     * @param keys the keys to search for in the map
+     * @param out  the array to store the values in, at least as long as keys
+     * @return the number of keys that were found
+     * @throws java.lang.IllegalArgumentException if keys or out or any key is
+     *                                            null, or if out is shorter
+     *                                            than keys
+     */
+    public int getAll(K[] keys, V[] out) {
+
+        if (keys == null) {
+            throw new IllegalArgumentException("Keys cannot be null.");
+        } else if (out == null) {
+            throw new IllegalArgumentException("Out cannot be null.");
+        } else if (out.length < keys.length) {
+            throw new IllegalArgumentException("Out cannot be shorter than keys.");
+        }
+
+        int[] indices = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == null) {
+                throw new IllegalArgumentException("Key cannot be null.");
+            }
+            indices[i] = Math.abs((keys[i].hashCode()) % (table.length));
+        }
+
+        int found = 0;
+        for (int i = 0; i < keys.length; i++) {
+            ExternalChainingMapEntry<K, V> currEntry = table[indices[i]];
+
+            while (currEntry != null && !currEntry.getKey().equals(keys[i])) {
+                currEntry = currEntry.getNext();
+            }
+
+            if (currEntry != null) {
+                out[i] = currEntry.getValue();
+                found++;
+            } else {
+                out[i] = null;
+            }
+        }
+
+        return found;
+    }
+
     /**
      * Returns whether or not the key is in the map.
      *
@@ -284,6 +422,109 @@ public class ExternalChainingHashMap<K, V> {
 
     }
 
+    /**
+     * Performs the given action on every key-value pair in the map, in the
+     * same order values() lists them. Nothing is copied.
+     *
+     * The action must not put or remove entries.
+     *
+     * @param action the action to perform on each key and value
+     * @throws java.lang.IllegalArgumentException if action is null
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null.");
+        }
+
+        for (int i = 0; i < table.length; i++) {
+            for (ExternalChainingMapEntry<K, V> e = table[i]; e != null; e = e.getNext()) {
+                action.accept(e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns a cursor over the entries of the map. The cursor walks the
+     * table and chains in place and can be reset and reused for any number
+     * of scans without allocating.
+     *
+     * @return a cursor positioned before the first entry
+     */
+    public EntryCursor cursor() {
+        return new EntryCursor();
+    }
+
+    /**
+     * Returns a Set of the keys in this map that is backed by the map, so it
+     * always reflects the map's current keys and nothing is copied.
+     *
+     * The set is read only, and the map must not be changed while one of its
+     * iterators is in use.
+     *
+     * @return a live view of the keys in this map
+     */
+    public Set<K> keySetView() {
+        return new AbstractSet<K>() {
+            @Override
+            public Iterator<K> iterator() {
+                return new ViewIterator<K>() {
+                    @Override
+                    K get(ExternalChainingMapEntry<K, V> entry) {
+                        return entry.getKey();
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                if (o == null) {
+                    return false;
+                }
+                int index = Math.abs((o.hashCode()) % (table.length));
+                for (ExternalChainingMapEntry<K, V> e = table[index]; e != null; e = e.getNext()) {
+                    if (e.getKey().equals(o)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Returns a Collection of the values in this map that is backed by the
+     * map, in the same order values() lists them. Nothing is copied.
+     *
+     * The collection is read only, and the map must not be changed while one
+     * of its iterators is in use.
+     *
+     * @return a live view of the values in this map
+     */
+    public Collection<V> valuesView() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new ViewIterator<V>() {
+                    @Override
+                    V get(ExternalChainingMapEntry<K, V> entry) {
+                        return entry.getValue();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
     /**
      * Resize the backing table to length.
      *
@@ -315,31 +556,201 @@ public class ExternalChainingHashMap<K, V> {
         ExternalChainingMapEntry<K, V>[] oldTable = table;
         table = (ExternalChainingMapEntry<K, V>[]) new ExternalChainingMapEntry[length];
 
+        // Relink the existing entries instead of allocating new ones. Each
+        // entry still goes to the front of its new chain, so the new table
+        // ends up the same as if it had been rebuilt entry by entry.
         for (ExternalChainingMapEntry<K, V> entry: oldTable) {
-            if (entry != null) {
+            ExternalChainingMapEntry<K, V> currEntry = entry;
+            while (currEntry != null) {
+                ExternalChainingMapEntry<K, V> nextEntry = currEntry.getNext();
+                int index = Math.abs((currEntry.getKey().hashCode()) % (table.length));
 
-                ExternalChainingMapEntry<K, V> currEntry = entry;
-                while (currEntry != null) {
-                    int index = Math.abs((currEntry.getKey().hashCode()) % (table.length));
+                currEntry.setNext(table[index]);
+                table[index] = currEntry;
+                currEntry = nextEntry;
+            }
+        }
+
+    }
+
+    /**
+     * Writes the map to file in a compact binary snapshot format, in one
+     * pass over the table.
+     *
+     * The snapshot stores the table length and, for each non-empty bucket,
+     * its index and its chain in order, so readSnapshot can rebuild exactly
+     * the same table without calling hashCode or resizing. Layout (all ints
+     * are big endian):
+     *   magic, version, key width, value width, table length, size
+     *   then per non-empty bucket: index, chain length, (key, value)...
+     *
+     * @param file       the file to write, replaced if it exists
+     * @param keyCodec   how keys are written
+     * @param valueCodec how values are written
+     * @throws java.lang.IllegalArgumentException if any argument is null
+     * @throws java.io.IOException                if the file can't be written
+     */
+    public void writeSnapshot(Path file, FixedWidthCodec<K> keyCodec, FixedWidthCodec<V> valueCodec)
+        throws IOException {
+
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null.");
+        } else if (keyCodec == null || valueCodec == null) {
+            throw new IllegalArgumentException("Codecs cannot be null.");
+        }
 
-                    if (table[index] != null) {
-                        ExternalChainingMapEntry<K, V> newCurrEntry = table[index];
-                        while (newCurrEntry.getNext() != null) {
-                            newCurrEntry = newCurrEntry.getNext();
-                        }
+        int entrySize = keyCodec.width() + valueCodec.width();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(SNAPSHOT_BUFFER_SIZE, entrySize + 8));
 
-                        ExternalChainingMapEntry<K, V> newEntry = new ExternalChainingMapEntry<>(currEntry.getKey(),
-                                currEntry.getValue(), table[index]);
-                        table[index] = newEntry;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
 
+            buffer.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION).putInt(keyCodec.width())
+                .putInt(valueCodec.width()).putInt(table.length).putInt(size);
+
+            for (int i = 0; i < table.length; i++) {
+                if (table[i] == null) {
+                    continue;
+                }
+
+                int chainLength = 0;
+                for (ExternalChainingMapEntry<K, V> e = table[i]; e != null; e = e.getNext()) {
+                    chainLength++;
+                }
+                if (buffer.remaining() < 8) {
+                    drain(buffer, channel);
+                }
+                buffer.putInt(i).putInt(chainLength);
+
+                for (ExternalChainingMapEntry<K, V> e = table[i]; e != null; e = e.getNext()) {
+                    if (buffer.remaining() < entrySize) {
+                        drain(buffer, channel);
+                    }
+                    keyCodec.write(e.getKey(), buffer, buffer.position());
+                    valueCodec.write(e.getValue(), buffer, buffer.position() + keyCodec.width());
+                    buffer.position(buffer.position() + entrySize);
+                }
+            }
+            drain(buffer, channel);
+        }
+    }
+
+    /**
+     * Reads a map written by writeSnapshot.
+     *
+     * The table is allocated once at the snapshot's length and every chain is
+     * rebuilt in its bucket in the same order, with no hashing or resizing.
+     * The key and value types must hash the same way they did when the
+     * snapshot was written.
+     *
+     * @param <K>        the type of the keys
+     * @param <V>        the type of the values
+     * @param file       the snapshot file
+     * @param keyCodec   how keys were written
+     * @param valueCodec how values were written
+     * @return the map
+     * @throws java.lang.IllegalArgumentException if any argument is null, or
+     *                                            if the file is not a snapshot
+     *                                            written with these widths
+     * @throws java.io.IOException                if the file can't be read
+     */
+    public static <K, V> ExternalChainingHashMap<K, V> readSnapshot(Path file, FixedWidthCodec<K> keyCodec,
+        FixedWidthCodec<V> valueCodec) throws IOException {
+
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null.");
+        } else if (keyCodec == null || valueCodec == null) {
+            throw new IllegalArgumentException("Codecs cannot be null.");
+        }
+
+        int entrySize = keyCodec.width() + valueCodec.width();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(SNAPSHOT_BUFFER_SIZE, entrySize + 8));
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer.flip();
+            fill(buffer, channel, 24);
+            if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+                throw new IllegalArgumentException("File is not a snapshot.");
+            } else if (buffer.getInt() != keyCodec.width() || buffer.getInt() != valueCodec.width()) {
+                throw new IllegalArgumentException("Snapshot has different key or value widths.");
+            }
+
+            int length = buffer.getInt();
+            int size = buffer.getInt();
+            if (length < 1 || size < 0 || size > length) {
+                throw new IllegalArgumentException("Snapshot is corrupt.");
+            }
+
+            ExternalChainingHashMap<K, V> map = new ExternalChainingHashMap<>(length);
+            int read = 0;
+
+            while (read < size) {
+                fill(buffer, channel, 8);
+                int index = buffer.getInt();
+                int chainLength = buffer.getInt();
+                if (index < 0 || index >= length || chainLength < 1 || chainLength > size - read) {
+                    throw new IllegalArgumentException("Snapshot is corrupt.");
+                }
+
+                ExternalChainingMapEntry<K, V> tail = null;
+                for (int j = 0; j < chainLength; j++) {
+                    fill(buffer, channel, entrySize);
+                    ExternalChainingMapEntry<K, V> entry = new ExternalChainingMapEntry<>(
+                        keyCodec.read(buffer, buffer.position()),
+                        valueCodec.read(buffer, buffer.position() + keyCodec.width()));
+                    buffer.position(buffer.position() + entrySize);
+
+                    if (tail == null) {
+                        map.table[index] = entry;
                     } else {
-                        table[index] = new ExternalChainingMapEntry<>(currEntry.getKey(), currEntry.getValue());
+                        tail.setNext(entry);
                     }
-                    currEntry = currEntry.getNext();
+                    tail = entry;
                 }
+                read += chainLength;
             }
+
+            map.size = size;
+            return map;
+        }
+    }
+
+    /**
+     * Private helper that writes out everything in buffer and empties it.
+     *
+     * @param buffer  the buffer, in write mode
+     * @param channel the channel to write to
+     * @throws java.io.IOException if the write fails
+     */
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
         }
+        buffer.clear();
+    }
 
+    /**
+     * Private helper that makes sure buffer has at least count bytes left to
+     * read, reading more from channel if needed.
+     *
+     * @param buffer  the buffer, in read mode
+     * @param channel the channel to read from
+     * @param count   the number of bytes needed
+     * @throws java.io.IOException                if the read fails
+     * @throws java.lang.IllegalArgumentException if the file ends first
+     */
+    private static void fill(ByteBuffer buffer, FileChannel channel, int count) throws IOException {
+        if (buffer.remaining() >= count) {
+            return;
+        }
+        buffer.compact();
+        while (buffer.position() < count) {
+            if (channel.read(buffer) < 0) {
+                throw new IllegalArgumentException("Snapshot ends too early.");
+            }
+        }
+        buffer.flip();
     }
 
     /**
@@ -380,4 +791,137 @@ public class ExternalChainingHashMap<K, V> {
         // DO NOT MODIFY THIS METHOD!
         return size;
     }
+
+    /**
+     * A reusable cursor over the entries of the map.
+     *
+     * Call next() to move to the next entry, then read it with getKey() and
+     * getValue(). The map must not have entries put or removed while a scan
+     * is in progress; setValue is fine.
+     */
+    public class EntryCursor {
+        private ExternalChainingMapEntry<K, V>[] cursorTable;
+        private int bucket;
+        private ExternalChainingMapEntry<K, V> entry;
+
+        /**
+         * Creates a cursor positioned before the first entry.
+         */
+        private EntryCursor() {
+            reset();
+        }
+
+        /**
+         * Moves the cursor back to before the first entry of the map.
+         */
+        public void reset() {
+            cursorTable = table;
+            bucket = -1;
+            entry = null;
+        }
+
+        /**
+         * Moves the cursor to the next entry.
+         *
+         * @return true if there was a next entry, false if the scan is done
+         */
+        public boolean next() {
+            if (entry != null) {
+                entry = entry.getNext();
+            }
+            while (entry == null && bucket + 1 < cursorTable.length) {
+                bucket++;
+                entry = cursorTable[bucket];
+            }
+            return entry != null;
+        }
+
+        /**
+         * Returns the key of the current entry.
+         *
+         * @return the key
+         * @throws java.util.NoSuchElementException if the cursor is not on an
+         *                                          entry
+         */
+        public K getKey() {
+            return current().getKey();
+        }
+
+        /**
+         * Returns the value of the current entry.
+         *
+         * @return the value
+         * @throws java.util.NoSuchElementException if the cursor is not on an
+         *                                          entry
+         */
+        public V getValue() {
+            return current().getValue();
+        }
+
+        /**
+         * Replaces the value of the current entry.
+         *
+         * @param value the new value
+         * @return the old value
+         * @throws java.lang.IllegalArgumentException if value is null
+         * @throws java.util.NoSuchElementException   if the cursor is not on
+         *                                            an entry
+         */
+        public V setValue(V value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Value cannot be null.");
+            }
+            ExternalChainingMapEntry<K, V> currEntry = current();
+            V returnValue = currEntry.getValue();
+            currEntry.setValue(value);
+            return returnValue;
+        }
+
+        /**
+         * Private helper that returns the current entry.
+         *
+         * @return the current entry
+         * @throws java.util.NoSuchElementException if there is none
+         */
+        private ExternalChainingMapEntry<K, V> current() {
+            if (entry == null) {
+                throw new NoSuchElementException("The cursor is not on an entry.");
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * Iterator for the live views. Walks the table and chains in place and
+     * maps each entry to what the view returns.
+     *
+     * @param <T> the type the view returns
+     */
+    private abstract class ViewIterator<T> implements Iterator<T> {
+        private final EntryCursor viewCursor = new EntryCursor();
+        private boolean hasNext = viewCursor.next();
+
+        /**
+         * Returns what the view holds for an entry.
+         *
+         * @param entry the entry
+         * @return the key or value of entry
+         */
+        abstract T get(ExternalChainingMapEntry<K, V> entry);
+
+        @Override
+        public boolean hasNext() {
+            return hasNext;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext) {
+                throw new NoSuchElementException("No more entries.");
+            }
+            T data = get(viewCursor.current());
+            hasNext = viewCursor.next();
+            return data;
+        }
+    }
 }
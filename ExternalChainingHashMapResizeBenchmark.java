@@ -0,0 +1,91 @@
+import java.lang.management.ManagementFactory;
+
+/**
+ * Times resizeBackingTable on a large ExternalChainingHashMap and reports
+ * how much memory each resize allocates.
+ *
+ * Allocation is read with com.sun.management.ThreadMXBean's
+ * getThreadAllocatedBytes just before and just after each resize. The new
+ * table array itself is measured separately and subtracted, so what is left
+ * is what resizing allocates per moved entry; relinking the existing entries
+ * should make it 0.
+ *
+ * Usage: java ExternalChainingHashMapResizeBenchmark [entries]
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class ExternalChainingHashMapResizeBenchmark {
+
+    /*
+     * The number of entries in the map, if none is given.
+     */
+    private static final int DEFAULT_ENTRIES = 1_000_000;
+
+    /*
+     * The number of untimed resizes before measuring.
+     */
+    private static final int WARMUP_ROUNDS = 5;
+
+    /*
+     * The number of measured resizes.
+     */
+    private static final int ROUNDS = 5;
+
+    /*
+     * Holds the table measured on its own, so it is really allocated.
+     */
+    private static Object sink;
+
+    /**
+     * Fills a map and measures resizing it back and forth.
+     *
+     * @param args optionally, the number of entries in the map
+     */
+    public static void main(String[] args) {
+        int entries = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_ENTRIES;
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            System.out.println("This JVM can't measure thread allocation.");
+            return;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long thread = Thread.currentThread().getId();
+
+        ExternalChainingHashMap<Integer, Integer> map = new ExternalChainingHashMap<>();
+        for (int i = 0; i < entries; i++) {
+            map.put(i, i);
+        }
+        int small = map.getTable().length;
+        int large = 2 * small + 1;
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            map.resizeBackingTable((round % 2 == 0) ? large : small);
+        }
+
+        System.out.printf("%d entries, resizing between %d and %d buckets%n", entries, small, large);
+        System.out.printf("%8s %10s %16s %14s %16s%n",
+                "length", "time", "allocated", "table", "per entry");
+        for (int round = 0; round < ROUNDS; round++) {
+            int length = (round % 2 == 0) ? large : small;
+
+            long before = threads.getThreadAllocatedBytes(thread);
+            sink = new ExternalChainingMapEntry[length];
+            long tableBytes = threads.getThreadAllocatedBytes(thread) - before;
+
+            before = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            map.resizeBackingTable(length);
+            long time = System.nanoTime() - start;
+            long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+            System.out.printf("%8d %7.2f ms %10d bytes %8d bytes %10.3f bytes%n", length, time / 1e6,
+                    allocated, tableBytes, (double) (allocated - tableBytes) / map.size());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Converts values of type T to and from a fixed number of bytes, for storing
+ * them outside of the Java heap.
+ *
+ * Two values must be equal exactly when their bytes are equal, since stored
+ * keys are compared byte by byte.
+ *
+ * @param <T> the type of value
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public interface FixedWidthCodec<T> {
+
+    /*
+     * Stores an Integer as 4 bytes.
+     */
+    FixedWidthCodec<Integer> INTEGER = new FixedWidthCodec<Integer>() {
+        @Override
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(Integer value, ByteBuffer buffer, int index) {
+            buffer.putInt(index, value);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int index) {
+            return buffer.getInt(index);
+        }
+    };
+
+    /*
+     * Stores a Long as 8 bytes.
+     */
+    FixedWidthCodec<Long> LONG = new FixedWidthCodec<Long>() {
+        @Override
+        public int width() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(Long value, ByteBuffer buffer, int index) {
+            buffer.putLong(index, value);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int index) {
+            return buffer.getLong(index);
+        }
+    };
+
+    /**
+     * Returns the number of bytes every value takes.
+     *
+     * @return the width in bytes
+     */
+    int width();
+
+    /**
+     * Writes value into buffer starting at index, without moving the
+     * buffer's position.
+     *
+     * @param value  the value to write, not null
+     * @param buffer the buffer to write to
+     * @param index  the index of the first byte
+     */
+    void write(T value, ByteBuffer buffer, int index);
+
+    /**
+     * Reads a value from buffer starting at index, without moving the
+     * buffer's position.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the index of the first byte
+     * @return the value
+     */
+    T read(ByteBuffer buffer, int index);
+}
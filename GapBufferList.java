@@ -0,0 +1,262 @@
+import java.util.NoSuchElementException;
+
+/**
+ * A list with the same API as ArrayList, backed by a gap buffer.
+ *
+ * The free slots of the backing array are kept together in one gap, which
+ * sits wherever the last add or remove happened. Adding or removing at the
+ * gap is O(1); anywhere else, the gap first moves there by shifting only the
+ * elements between the old and new positions. Edits that stay near a cursor,
+ * or keep hitting the front, are O(1) amortized, where ArrayList would shift
+ * everything after the index every time. Jumping back and forth between far
+ * apart indices costs O(n) per jump, like ArrayList.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class GapBufferList<T> {
+
+    /*
+     * The initial capacity of the list.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    private T[] backingArray;
+    private int gapStart;
+    private int gapEnd;
+
+    /**
+     * Constructs a new GapBufferList.
+     */
+    public GapBufferList() {
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        gapStart = 0;
+        gapEnd = INITIAL_CAPACITY;
+    }
+
+    /**
+     * Adds the element to the specified index.
+     *
+     * Must be O(1) amortized when index is at the gap, and O(d) where d is
+     * the distance from the gap otherwise.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        } else if (index > size()) {
+            throw new IndexOutOfBoundsException("Index cannot be more than the size of the list.");
+        }
+
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+
+        if (gapStart == gapEnd) {
+            grow();
+        }
+        moveGap(index);
+        backingArray[gapStart++] = data;
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Must be O(1) amortized if the gap is already at the front.
+     *
+     * @param data the data to add to the front of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Must be O(1) amortized if the gap is already at the back.
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        addAtIndex(size(), data);
+    }
+
+    /**
+     * Removes and returns the element at the specified index.
+     *
+     * Must be O(1) when index is at the gap, and O(d) where d is the
+     * distance from the gap otherwise.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T removeAtIndex(int index) {
+
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        } else if (index >= size()) {
+            throw new IndexOutOfBoundsException("Index cannot be more than the size of the list.");
+        }
+
+        moveGap(index);
+        T returnValue = backingArray[gapEnd];
+        backingArray[gapEnd++] = null;
+        return returnValue;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * Must be O(1) if the gap is already at the front.
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromFront() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The list is empty.");
+        }
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * Must be O(1) if the gap is already at the back.
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromBack() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("The list is empty.");
+        }
+        return removeAtIndex(size() - 1);
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index is not in the list.");
+        }
+        return backingArray[(index < gapStart) ? index : index + gapEnd - gapStart];
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Clears the list.
+     *
+     * Resets the backing array to a new array of the initial capacity and
+     * resets the gap to cover all of it.
+     */
+    public void clear() {
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        gapStart = 0;
+        gapEnd = INITIAL_CAPACITY;
+    }
+
+    /**
+     * Returns the backing array of the list. The elements before the gap are
+     * at the front, the elements after it are at the back, and the gap in
+     * between is all null.
+     *
+     * @return the backing array of the list
+     */
+    public T[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the index the gap is at, which is where the next add is
+     * cheapest.
+     *
+     * @return the index of the gap
+     */
+    public int getGapIndex() {
+        return gapStart;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return backingArray.length - (gapEnd - gapStart);
+    }
+
+    /**
+     * Private helper that moves the gap so it starts at index, shifting the
+     * elements between the old and new positions across it.
+     *
+     * @param index the new start of the gap, between 0 and size
+     */
+    private void moveGap(int index) {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(backingArray, index, backingArray, gapEnd - count, count);
+            clearSlots(index, Math.min(gapStart, gapEnd - count));
+            gapStart = index;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(backingArray, gapEnd, backingArray, gapStart, count);
+            clearSlots(Math.max(gapEnd, index), gapEnd + count);
+            gapStart = index;
+            gapEnd += count;
+        }
+    }
+
+    /**
+     * Private helper that nulls out the slots from start (inclusive) to end
+     * (exclusive) once they are part of the gap.
+     *
+     * @param start the first slot
+     * @param end   the slot after the last one
+     */
+    private void clearSlots(int start, int end) {
+        for (int i = start; i < end; i++) {
+            backingArray[i] = null;
+        }
+    }
+
+    /**
+     * Private helper that doubles the backing array, keeping the gap where
+     * it is and adding the new slots to it.
+     */
+    private void grow() {
+        T[] oldArray = backingArray;
+        int tail = oldArray.length - gapEnd;
+        backingArray = (T[]) new Object[2 * oldArray.length];
+        System.arraycopy(oldArray, 0, backingArray, 0, gapStart);
+        System.arraycopy(oldArray, gapEnd, backingArray, backingArray.length - tail, tail);
+        gapEnd = backingArray.length - tail;
+    }
+}
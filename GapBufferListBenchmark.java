@@ -0,0 +1,144 @@
+import java.util.Random;
+
+/**
+ * Times GapBufferList against ArrayList for a few insertion mixes.
+ *
+ * Each mix inserts the same sequence of indices into an empty list of each
+ * kind: always at the front, always in the middle, always at the back, and
+ * at random indices. The indices are worked out before the clock starts, so
+ * only the inserts are timed. Every mix runs WARMUP_ROUNDS untimed rounds so
+ * the JIT has compiled both lists, then the best of ROUNDS timed rounds is
+ * printed.
+ *
+ * Usage: java GapBufferListBenchmark [elements]
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class GapBufferListBenchmark {
+
+    /*
+     * The number of elements each round inserts, if none is given.
+     */
+    private static final int DEFAULT_ELEMENTS = 50_000;
+
+    /*
+     * The number of untimed rounds before timing each mix.
+     */
+    private static final int WARMUP_ROUNDS = 3;
+
+    /*
+     * The number of timed rounds per mix; the fastest one is reported.
+     */
+    private static final int ROUNDS = 5;
+
+    /*
+     * Read back from every list so the inserts can't be optimized away.
+     */
+    private static long checksum;
+
+    /**
+     * Where each insert goes.
+     */
+    private enum Mix {
+        FRONT, MIDDLE, BACK, RANDOM;
+
+        /**
+         * Returns the index for every insert of a round.
+         *
+         * @param elements the number of inserts
+         * @return indices[i] is where insert i goes, from 0 to i
+         */
+        int[] indices(int elements) {
+            Random random = new Random(elements);
+            int[] indices = new int[elements];
+            for (int i = 0; i < elements; i++) {
+                switch (this) {
+                    case FRONT:
+                        indices[i] = 0;
+                        break;
+                    case MIDDLE:
+                        indices[i] = i / 2;
+                        break;
+                    case BACK:
+                        indices[i] = i;
+                        break;
+                    default:
+                        indices[i] = random.nextInt(i + 1);
+                        break;
+                }
+            }
+            return indices;
+        }
+    }
+
+    /**
+     * Runs every mix and prints the timings.
+     *
+     * @param args optionally, the number of elements to insert per round
+     */
+    public static void main(String[] args) {
+        int elements = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_ELEMENTS;
+
+        System.out.printf("%d inserts per round, best of %d rounds%n", elements, ROUNDS);
+        System.out.printf("%-8s %16s %16s%n", "mix", "GapBufferList", "ArrayList");
+        for (Mix mix : Mix.values()) {
+            int[] indices = mix.indices(elements);
+            double gapMillis = bestGapBufferList(indices) / 1e6;
+            double arrayMillis = bestArrayList(indices) / 1e6;
+            System.out.printf("%-8s %13.2f ms %13.2f ms%n", mix, gapMillis, arrayMillis);
+        }
+        System.out.println("(checksum " + checksum + ")");
+    }
+
+    /**
+     * Private helper that returns the fastest time to insert at indices into
+     * a GapBufferList, after warming up.
+     *
+     * @param indices the index of each insert
+     * @return the best time, in nanoseconds
+     */
+    private static long bestGapBufferList(int[] indices) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+            long start = System.nanoTime();
+            GapBufferList<Integer> list = new GapBufferList<>();
+            for (int i = 0; i < indices.length; i++) {
+                list.addAtIndex(indices[i], i);
+            }
+            long time = System.nanoTime() - start;
+            checksum += list.get(list.size() / 2);
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, time);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Private helper that returns the fastest time to insert at indices into
+     * an ArrayList, after warming up.
+     *
+     * @param indices the index of each insert
+     * @return the best time, in nanoseconds
+     */
+    private static long bestArrayList(int[] indices) {
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+            long start = System.nanoTime();
+            ArrayList<Integer> list = new ArrayList<>();
+            for (int i = 0; i < indices.length; i++) {
+                list.addAtIndex(indices[i], i);
+            }
+            long time = System.nanoTime() - start;
+            checksum += list.get(list.size() / 2);
+            if (round >= WARMUP_ROUNDS) {
+                best = Math.min(best, time);
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * How far a growable backing array grows when it is full.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+
+    /**
+     * Returns the length to grow a full array of the given length to.
+     *
+     * @param length the current length
+     * @return the new length, greater than length
+     */
+    int grow(int length);
+
+    /**
+     * Returns the policy that doubles the length, like ArrayList does.
+     *
+     * @return the doubling policy
+     */
+    static GrowthPolicy doubling() {
+        return length -> Math.max(1, 2 * length);
+    }
+
+    /**
+     * Returns the policy that grows the length by half. Wastes less space
+     * than doubling at the cost of copying more often.
+     *
+     * @return the 1.5x policy
+     */
+    static GrowthPolicy oneAndAHalf() {
+        return length -> Math.max(length + 1, length + (length >> 1));
+    }
+
+    /**
+     * Returns the policy that grows by the same number of slots every time.
+     * Wastes at most chunk slots, but appends are no longer amortized O(1).
+     *
+     * @param chunk the number of slots to add
+     * @return the fixed chunk policy
+     * @throws java.lang.IllegalArgumentException if chunk is not positive
+     */
+    static GrowthPolicy fixedChunk(int chunk) {
+        if (chunk < 1) {
+            throw new IllegalArgumentException("Chunk must be positive.");
+        }
+        return length -> length + chunk;
+    }
+}
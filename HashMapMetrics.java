@@ -0,0 +1,192 @@
+/**
+ * Counters describing how a hash map has been performing.
+ *
+ * A map with metrics enabled updates one of these as it runs, and hands out
+ * copies of it (snapshots) that also include how long the chains currently
+ * are, so a slow map can be told apart as having long chains, too many
+ * resizes or a bad hash.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class HashMapMetrics {
+
+    /*
+     * The last bucket of the chain length histogram counts every chain at
+     * least this long.
+     */
+    public static final int HISTOGRAM_BUCKETS = 16;
+
+    private long hits;
+    private long misses;
+    private long probes;
+    private long entriesTraversed;
+    private int maxTraversed;
+    private int resizes;
+    private long resizeNanos;
+    private int size;
+    private int tableLength;
+    private int[] chainHistogram;
+
+    /**
+     * Creates empty counters.
+     */
+    public HashMapMetrics() {
+        chainHistogram = new int[HISTOGRAM_BUCKETS];
+    }
+
+    /**
+     * Records a get or containsKey.
+     *
+     * @param traversed the number of chain entries looked at
+     * @param hit       whether the key was found
+     */
+    void recordLookup(int traversed, boolean hit) {
+        if (hit) {
+            hits++;
+        } else {
+            misses++;
+        }
+        recordProbe(traversed);
+    }
+
+    /**
+     * Records a walk along a chain.
+     *
+     * @param traversed the number of chain entries looked at
+     */
+    void recordProbe(int traversed) {
+        probes++;
+        entriesTraversed += traversed;
+        if (traversed > maxTraversed) {
+            maxTraversed = traversed;
+        }
+    }
+
+    /**
+     * Records a resize of the backing table.
+     *
+     * @param nanos how long it took
+     */
+    void recordResize(long nanos) {
+        resizes++;
+        resizeNanos += nanos;
+    }
+
+    /**
+     * Returns a copy of these counters together with the current shape of
+     * the given table.
+     *
+     * @param table the map's table
+     * @param size  the map's size
+     * @return the snapshot
+     */
+    HashMapMetrics snapshot(ExternalChainingMapEntry<?, ?>[] table, int size) {
+        HashMapMetrics copy = new HashMapMetrics();
+        copy.hits = hits;
+        copy.misses = misses;
+        copy.probes = probes;
+        copy.entriesTraversed = entriesTraversed;
+        copy.maxTraversed = maxTraversed;
+        copy.resizes = resizes;
+        copy.resizeNanos = resizeNanos;
+        copy.size = size;
+        copy.tableLength = table.length;
+
+        for (ExternalChainingMapEntry<?, ?> head : table) {
+            int length = 0;
+            for (ExternalChainingMapEntry<?, ?> e = head; e != null; e = e.getNext()) {
+                length++;
+            }
+            copy.chainHistogram[Math.min(length, HISTOGRAM_BUCKETS - 1)]++;
+        }
+        return copy;
+    }
+
+    /**
+     * Returns the number of lookups that found their key.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that did not find their key.
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the fraction of lookups that found their key.
+     *
+     * @return the hit rate, 0 if there were no lookups
+     */
+    public double getHitRate() {
+        return (hits + misses == 0) ? 0 : (double) hits / (hits + misses);
+    }
+
+    /**
+     * Returns the average number of chain entries looked at per operation
+     * (get, containsKey, put and remove).
+     *
+     * @return the average chain length traversed, 0 if there were none
+     */
+    public double getAverageChainTraversed() {
+        return (probes == 0) ? 0 : (double) entriesTraversed / probes;
+    }
+
+    /**
+     * Returns the most chain entries any single operation looked at.
+     *
+     * @return the max chain length traversed
+     */
+    public int getMaxChainTraversed() {
+        return maxTraversed;
+    }
+
+    /**
+     * Returns the number of times the backing table was resized.
+     *
+     * @return the resize count
+     */
+    public int getResizeCount() {
+        return resizes;
+    }
+
+    /**
+     * Returns the total time spent in resizeBackingTable.
+     *
+     * @return the time spent resizing, in nanoseconds
+     */
+    public long getResizeNanos() {
+        return resizeNanos;
+    }
+
+    /**
+     * Returns the load factor of the map when the snapshot was taken.
+     *
+     * @return size / table length, 0 if this is not a snapshot
+     */
+    public double getLoadFactor() {
+        return (tableLength == 0) ? 0 : (double) size / tableLength;
+    }
+
+    /**
+     * Returns how many buckets had each chain length when the snapshot was
+     * taken. Index i is the number of buckets with i entries; the last index
+     * counts every bucket with HISTOGRAM_BUCKETS - 1 or more.
+     *
+     * @return a copy of the chain length histogram
+     */
+    public int[] getChainHistogram() {
+        return chainHistogram.clone();
+    }
+}
@@ -0,0 +1,420 @@
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An ExternalChainingHashMap that grows incrementally.
+ *
+ * When a put would go over MAX_LOAD_FACTOR, the map allocates the new table
+ * but keeps the old one around instead of rehashing everything at once. Every
+ * put, get, containsKey and remove after that moves the next few buckets of
+ * the old table over (the migration step), until the old table is empty and
+ * gets dropped. This spreads the cost of a resize over many operations so no
+ * single put pays for the whole table.
+ *
+ * While a migration is running, buckets of the old table before oldIndex have
+ * already been moved and everything else is still in the old table.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class IncrementalChainingHashMap<K, V> {
+
+    /*
+     * The initial capacity of the map when created with the default
+     * constructor.
+     */
+    public static final int INITIAL_CAPACITY = 13;
+
+    /*
+     * The max load factor of the map.
+     */
+    public static final double MAX_LOAD_FACTOR = 0.67;
+
+    /*
+     * The default number of old buckets moved per operation during a resize.
+     * A resize starts at about 0.67n entries and grows the table to 2n + 1,
+     * which next fills at about 1.34n, so about 0.67n puts come before the
+     * next resize. Moving the n old buckets takes n / step operations, so
+     * any step of at least 2 finishes the migration in time.
+     */
+    public static final int MIGRATION_STEP = 4;
+
+    private ExternalChainingMapEntry<K, V>[] table;
+    private ExternalChainingMapEntry<K, V>[] oldTable;
+    private int oldIndex;
+    private final int migrationStep;
+    private int size;
+
+    /**
+     * Constructs a new IncrementalChainingHashMap with a capacity of
+     * INITIAL_CAPACITY.
+     */
+    public IncrementalChainingHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new IncrementalChainingHashMap.
+     *
+     * You may assume capacity will always be positive.
+     *
+     * @param capacity the initial capacity of the backing array
+     */
+    public IncrementalChainingHashMap(int capacity) {
+        this(capacity, MIGRATION_STEP);
+    }
+
+    /**
+     * Constructs a new IncrementalChainingHashMap.
+     *
+     * @param capacity      the initial capacity of the backing array
+     * @param migrationStep the number of old buckets moved per operation
+     *                      while resizing
+     * @throws java.lang.IllegalArgumentException if migrationStep is not
+     *                                            positive
+     */
+    public IncrementalChainingHashMap(int capacity, int migrationStep) {
+
+        if (migrationStep < 1) {
+            throw new IllegalArgumentException("Migration step must be positive.");
+        }
+
+        table = new ExternalChainingMapEntry[capacity];
+        this.migrationStep = migrationStep;
+        size = 0;
+    }
+
+    /**
+     * Adds the given key-value pair to the map. If an entry in the map
+     * already has this key, replace the entry's value with the new one
+     * passed in.
+     *
+     * If the load factor would go over MAX_LOAD_FACTOR, a table of length
+     * 2 * old length + 1 is allocated and the migration to it is started
+     * (or, if one is somehow still running, finished first).
+     *
+     * New entries are added to the front of the chain their key currently
+     * maps to, which is in the old table if that bucket has not moved yet.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return null if the key was not already in the map. If it was in the
+     * map, return the old value associated with it
+     * @throws java.lang.IllegalArgumentException if key or value is null
+     */
+    public V put(K key, V value) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+
+        migrate();
+
+        if (((size + 1.0) / table.length) > MAX_LOAD_FACTOR) {
+            finishMigration();
+            oldTable = table;
+            oldIndex = 0;
+            table = new ExternalChainingMapEntry[2 * table.length + 1];
+            migrate();
+        }
+
+        ExternalChainingMapEntry<K, V> currEntry = find(key);
+        if (currEntry != null) {
+            V returnValue = currEntry.getValue();
+            currEntry.setValue(value);
+            return returnValue;
+        }
+
+        ExternalChainingMapEntry<K, V>[] bucketTable = tableFor(key);
+        int index = Math.abs((key.hashCode()) % (bucketTable.length));
+        bucketTable[index] = new ExternalChainingMapEntry<>(key, value, bucketTable[index]);
+        size++;
+        return null;
+    }
+
+    /**
+     * Removes the entry with a matching key from the map.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    public V remove(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        migrate();
+
+        ExternalChainingMapEntry<K, V>[] bucketTable = tableFor(key);
+        int index = Math.abs((key.hashCode()) % (bucketTable.length));
+
+        ExternalChainingMapEntry<K, V> prevEntry = null;
+        ExternalChainingMapEntry<K, V> currEntry = bucketTable[index];
+
+        while (currEntry != null) {
+            if (currEntry.getKey().equals(key)) {
+                if (prevEntry == null) {
+                    bucketTable[index] = currEntry.getNext();
+                } else {
+                    prevEntry.setNext(currEntry.getNext());
+                }
+                size--;
+                return currEntry.getValue();
+            }
+            prevEntry = currEntry;
+            currEntry = currEntry.getNext();
+        }
+
+        throw new NoSuchElementException("Key is not in the map.");
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key the key to search for in the map
+     * @return the value associated with the given key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    public V get(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        migrate();
+
+        ExternalChainingMapEntry<K, V> currEntry = find(key);
+        if (currEntry == null) {
+            throw new NoSuchElementException("Key is not in the map.");
+        }
+        return currEntry.getValue();
+    }
+
+    /**
+     * Returns whether or not the key is in the map.
+     *
+     * @param key the key to search for in the map
+     * @return true if the key is contained within the map, false
+     * otherwise
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public boolean containsKey(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        migrate();
+        return find(key) != null;
+    }
+
+    /**
+     * Returns a Set view of the keys contained in this map.
+     *
+     * Use java.util.HashSet.
+     *
+     * @return the set of keys in this map
+     */
+    public Set<K> keySet() {
+
+        Set<K> returnKeySet = new HashSet<>();
+
+        if (oldTable != null) {
+            for (int i = oldIndex; i < oldTable.length; i++) {
+                for (ExternalChainingMapEntry<K, V> e = oldTable[i]; e != null; e = e.getNext()) {
+                    returnKeySet.add(e.getKey());
+                }
+            }
+        }
+        for (int i = 0; i < table.length; i++) {
+            for (ExternalChainingMapEntry<K, V> e = table[i]; e != null; e = e.getNext()) {
+                returnKeySet.add(e.getKey());
+            }
+        }
+
+        return returnKeySet;
+    }
+
+    /**
+     * Returns a List view of the values contained in this map.
+     *
+     * Values still waiting in the old table come first, then the values of
+     * the current table in order of increasing index.
+     *
+     * @return list of values in this map
+     */
+    public List<V> values() {
+
+        List<V> valueList = new ArrayList<>();
+
+        if (oldTable != null) {
+            for (int i = oldIndex; i < oldTable.length; i++) {
+                for (ExternalChainingMapEntry<K, V> e = oldTable[i]; e != null; e = e.getNext()) {
+                    valueList.add(e.getValue());
+                }
+            }
+        }
+        for (int i = 0; i < table.length; i++) {
+            for (ExternalChainingMapEntry<K, V> e = table[i]; e != null; e = e.getNext()) {
+                valueList.add(e.getValue());
+            }
+        }
+
+        return valueList;
+    }
+
+    /**
+     * Resize the backing table to length right away.
+     *
+     * Any migration in progress is finished first, then every entry is
+     * relinked into a table of the given length in one go.
+     *
+     * @param length new length of the backing table
+     * @throws java.lang.IllegalArgumentException if length is less than the
+     *                                            number of items in the hash
+     *                                            map
+     */
+    public void resizeBackingTable(int length) {
+
+        if (length < size) {
+            throw new IllegalArgumentException("Length cannot be less than the numbers of items in the hash map.");
+        }
+
+        finishMigration();
+        oldTable = table;
+        oldIndex = 0;
+        table = new ExternalChainingMapEntry[length];
+        finishMigration();
+    }
+
+    /**
+     * Returns whether or not a resize is still being migrated.
+     *
+     * @return true if the old table still has buckets to move
+     */
+    public boolean isResizing() {
+        return oldTable != null;
+    }
+
+    /**
+     * Clears the map.
+     *
+     * Resets the table to a new array of the initial capacity, drops any
+     * migration in progress and resets the size.
+     */
+    public void clear() {
+        table = new ExternalChainingMapEntry[INITIAL_CAPACITY];
+        oldTable = null;
+        oldIndex = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the current (new) table of the map.
+     *
+     * @return the table of the map
+     */
+    public ExternalChainingMapEntry<K, V>[] getTable() {
+        return table;
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Private helper that returns the table the key's bucket currently lives
+     * in: the old table if its old bucket has not been moved yet, otherwise
+     * the new one.
+     *
+     * @param key the key
+     * @return the table to search for key
+     */
+    private ExternalChainingMapEntry<K, V>[] tableFor(K key) {
+        if (oldTable != null && Math.abs((key.hashCode()) % (oldTable.length)) >= oldIndex) {
+            return oldTable;
+        }
+        return table;
+    }
+
+    /**
+     * Private helper that finds the entry for key.
+     *
+     * @param key the key to search for
+     * @return the entry, or null if the key is not in the map
+     */
+    private ExternalChainingMapEntry<K, V> find(K key) {
+        ExternalChainingMapEntry<K, V>[] bucketTable = tableFor(key);
+        ExternalChainingMapEntry<K, V> currEntry = bucketTable[Math.abs((key.hashCode()) % (bucketTable.length))];
+
+        while (currEntry != null && !currEntry.getKey().equals(key)) {
+            currEntry = currEntry.getNext();
+        }
+        return currEntry;
+    }
+
+    /**
+     * Private helper that moves the next migrationStep buckets of the old
+     * table into the new one, if a resize is in progress.
+     */
+    private void migrate() {
+        if (oldTable != null) {
+            migrateBuckets(migrationStep);
+        }
+    }
+
+    /**
+     * Private helper that moves every remaining bucket of the old table.
+     */
+    private void finishMigration() {
+        if (oldTable != null) {
+            migrateBuckets(oldTable.length - oldIndex);
+        }
+    }
+
+    /**
+     * Private helper that moves up to count buckets of the old table into the
+     * new one. The entries are relinked, not copied. Drops the old table once
+     * it has been fully moved.
+     *
+     * @param count the max number of buckets to move
+     */
+    private void migrateBuckets(int count) {
+        int end = Math.min(oldTable.length, oldIndex + count);
+
+        for (; oldIndex < end; oldIndex++) {
+            ExternalChainingMapEntry<K, V> currEntry = oldTable[oldIndex];
+            oldTable[oldIndex] = null;
+
+            while (currEntry != null) {
+                ExternalChainingMapEntry<K, V> nextEntry = currEntry.getNext();
+                int index = Math.abs((currEntry.getKey().hashCode()) % (table.length));
+                currEntry.setNext(table[index]);
+                table[index] = currEntry;
+                currEntry = nextEntry;
+            }
+        }
+
+        if (oldIndex == oldTable.length) {
+            oldTable = null;
+            oldIndex = 0;
+        }
+    }
+}
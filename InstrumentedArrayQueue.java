@@ -0,0 +1,322 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An ArrayQueue that can record QueueMetrics about itself.
+ *
+ * It has the same operations as ArrayQueue, including addFirst, removeLast
+ * and peekLast, and the elements use the same layout: a circular
+ * backingArray that doubles when full, the index of the front element, and
+ * a size. Elements added or removed at either end count as enqueues and
+ * dequeues.
+ * Metrics are turned on with enableMetrics(). While they are off the only
+ * cost is a null check per operation. While they are on, a parallel array
+ * holds the enqueue time of each sampled element, so measuring residence
+ * time allocates nothing except when the backing array grows.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class InstrumentedArrayQueue<T> {
+
+    /*
+     * The initial capacity of the queue.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    /*
+     * Marks a slot whose element was not sampled.
+     */
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private T[] backingArray;
+    private int front;
+    private int size;
+    private QueueMetrics metrics;
+    private long[] enqueueTimes;
+
+    /**
+     * Constructs a new InstrumentedArrayQueue with metrics off.
+     */
+    public InstrumentedArrayQueue() {
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        front = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds the data to the back of the queue.
+     *
+     * If sufficient space is not available in the backing array, resize it to
+     * double the current length, copying elements to the beginning of the
+     * new array and resetting front to 0.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the back of the queue
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void enqueue(T data) {
+
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+
+        if (size == backingArray.length) {
+            grow();
+        }
+
+        int back = (front + size) % backingArray.length;
+        backingArray[back] = data;
+        size++;
+
+        recordAdd(back);
+    }
+
+    /**
+     * Adds the data to the front of the queue, so it is the next one
+     * dequeued.
+     *
+     * Resizes the same way enqueue does if the backing array is full.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to add to the front of the queue
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addFirst(T data) {
+
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+
+        if (size == backingArray.length) {
+            grow();
+        }
+
+        front = (front - 1 + backingArray.length) % backingArray.length;
+        backingArray[front] = data;
+        size++;
+
+        recordAdd(front);
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue.
+     *
+     * Replaces the spot it dequeues from with null. Does not shrink the
+     * backing array or reset front when the queue becomes empty.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T dequeue() {
+
+        if (size == 0) {
+            throw new NoSuchElementException("The queue is empty.");
+        }
+
+        T removeElement = backingArray[front];
+        backingArray[front] = null;
+        recordRemove(front);
+
+        front = (front + 1) % backingArray.length;
+        size--;
+        return removeElement;
+    }
+
+    /**
+     * Removes and returns the data from the back of the queue, the one most
+     * recently enqueued.
+     *
+     * Replaces the spot it removes from with null. Does not shrink the
+     * backing array or move front.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the back of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T removeLast() {
+
+        if (size == 0) {
+            throw new NoSuchElementException("The queue is empty.");
+        }
+
+        int back = (front + size - 1) % backingArray.length;
+        T removeElement = backingArray[back];
+        backingArray[back] = null;
+        recordRemove(back);
+
+        size--;
+        return removeElement;
+    }
+
+    /**
+     * Returns the data from the front of the queue without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the data located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T peek() {
+
+        if (size == 0) {
+            throw new NoSuchElementException("The queue is empty.");
+        }
+
+        return backingArray[front];
+    }
+
+    /**
+     * Returns the data from the back of the queue without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the data located at the back of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T peekLast() {
+
+        if (size == 0) {
+            throw new NoSuchElementException("The queue is empty.");
+        }
+
+        return backingArray[(front + size - 1) % backingArray.length];
+    }
+
+    /**
+     * Returns whether or not the queue is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Starts recording metrics, from zero. Elements already in the queue
+     * are counted when dequeued but not sampled. Does nothing if metrics are
+     * already being recorded.
+     */
+    public void enableMetrics() {
+        if (metrics == null) {
+            enqueueTimes = new long[backingArray.length];
+            Arrays.fill(enqueueTimes, NOT_SAMPLED);
+            metrics = new QueueMetrics();
+        }
+    }
+
+    /**
+     * Stops recording metrics and throws away the counters.
+     */
+    public void disableMetrics() {
+        metrics = null;
+        enqueueTimes = null;
+    }
+
+    /**
+     * Returns a snapshot of the metrics recorded so far, with the current
+     * depth and the rates up to now.
+     *
+     * @return the metrics snapshot
+     * @throws java.lang.IllegalStateException if metrics are not enabled
+     */
+    public QueueMetrics getMetrics() {
+        if (metrics == null) {
+            throw new IllegalStateException("Metrics are not enabled.");
+        }
+        return metrics.snapshot(size);
+    }
+
+    /**
+     * Returns the backing array of the queue.
+     *
+     * @return the backing array of the queue
+     */
+    public T[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the front index of the queue.
+     *
+     * @return the front index of the queue
+     */
+    public int getFront() {
+        return front;
+    }
+
+    /**
+     * Returns the size of the queue.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Private helper that records an element added at slot, sampling its
+     * enqueue time if the metrics ask for it. Call after size is updated.
+     *
+     * @param slot the index the element was stored at
+     */
+    private void recordAdd(int slot) {
+        if (metrics != null && metrics.recordEnqueue(size)) {
+            enqueueTimes[slot] = System.nanoTime();
+        }
+    }
+
+    /**
+     * Private helper that records the removal of the element at slot, with
+     * its residence time if it was sampled.
+     *
+     * @param slot the index the element was stored at
+     */
+    private void recordRemove(int slot) {
+        if (metrics != null) {
+            long enqueuedAt = enqueueTimes[slot];
+            if (enqueuedAt == NOT_SAMPLED) {
+                metrics.recordDequeue();
+            } else {
+                metrics.recordDequeue(System.nanoTime() - enqueuedAt);
+                enqueueTimes[slot] = NOT_SAMPLED;
+            }
+        }
+    }
+
+    /**
+     * Private helper that doubles the backing array (and the enqueue times,
+     * if metrics are on), copying the elements to the beginning of the new
+     * array and resetting front to 0.
+     */
+    private void grow() {
+        long start = (metrics != null) ? System.nanoTime() : 0;
+
+        T[] oldArray = backingArray;
+        int frontPart = oldArray.length - front;
+        backingArray = (T[]) new Object[2 * oldArray.length];
+        System.arraycopy(oldArray, front, backingArray, 0, frontPart);
+        System.arraycopy(oldArray, 0, backingArray, frontPart, front);
+
+        if (enqueueTimes != null) {
+            long[] oldTimes = enqueueTimes;
+            enqueueTimes = new long[backingArray.length];
+            System.arraycopy(oldTimes, front, enqueueTimes, 0, frontPart);
+            System.arraycopy(oldTimes, 0, enqueueTimes, frontPart, front);
+            Arrays.fill(enqueueTimes, oldTimes.length, enqueueTimes.length, NOT_SAMPLED);
+        }
+        front = 0;
+
+        if (metrics != null) {
+            metrics.recordResize(System.nanoTime() - start);
+        }
+    }
+}
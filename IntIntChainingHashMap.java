@@ -0,0 +1,327 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An int-keyed, int-valued version of ExternalChainingHashMap.
+ *
+ * Instead of one ExternalChainingMapEntry object per entry, the entries live
+ * in parallel arrays (keys, values and next) and the table stores the slot of
+ * the first entry of each chain. Slots are stored off by one so that 0 means
+ * "no entry" and freshly allocated arrays need no filling. Removed slots are
+ * kept on a free list and reused by later puts.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class IntIntChainingHashMap {
+
+    /*
+     * The initial capacity of the map when created with the default
+     * constructor.
+     */
+    public static final int INITIAL_CAPACITY = 13;
+
+    /*
+     * The max load factor of the map.
+     */
+    public static final double MAX_LOAD_FACTOR = 0.67;
+
+    /*
+     * The value put returns when the key was not already in the map, since
+     * an int cannot be null.
+     */
+    public static final int NO_ENTRY_VALUE = 0;
+
+    private int[] table;
+    private int[] keys;
+    private int[] values;
+    private int[] next;
+    private int used;
+    private int free;
+    private int size;
+
+    /**
+     * Constructs a new IntIntChainingHashMap.
+     *
+     * The backing array should have an initial capacity of INITIAL_CAPACITY.
+     */
+    public IntIntChainingHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new IntIntChainingHashMap.
+     *
+     * You may assume capacity will always be positive.
+     *
+     * @param capacity the initial capacity of the backing array
+     */
+    public IntIntChainingHashMap(int capacity) {
+        table = new int[capacity];
+        allocateEntries(capacity);
+        size = 0;
+    }
+
+    /**
+     * Adds the given key-value pair to the map. If an entry in the map
+     * already has this key, replace the entry's value with the new one
+     * passed in.
+     *
+     * Same resize rule as ExternalChainingHashMap: if adding would exceed
+     * MAX_LOAD_FACTOR, the table is first resized to 2 * old length + 1.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return NO_ENTRY_VALUE if the key was not already in the map. If it
+     * was in the map, return the old value associated with it
+     */
+    public int put(int key, int value) {
+
+        if (((size + 1.0) / table.length) > MAX_LOAD_FACTOR) {
+            resizeBackingTable(2 * table.length + 1);
+        }
+
+        int index = indexFor(key, table.length);
+
+        for (int slot = table[index]; slot != 0; slot = next[slot - 1]) {
+            if (keys[slot - 1] == key) {
+                int returnValue = values[slot - 1];
+                values[slot - 1] = value;
+                return returnValue;
+            }
+        }
+
+        int slot = takeSlot();
+        keys[slot - 1] = key;
+        values[slot - 1] = value;
+        next[slot - 1] = table[index];
+        table[index] = slot;
+        size++;
+        return NO_ENTRY_VALUE;
+    }
+
+    /**
+     * Removes the entry with a matching key from the map.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key
+     * @throws java.util.NoSuchElementException if the key is not in the map
+     */
+    public int remove(int key) {
+
+        int index = indexFor(key, table.length);
+
+        int prev = 0;
+        for (int slot = table[index]; slot != 0; slot = next[slot - 1]) {
+            if (keys[slot - 1] == key) {
+                int returnValue = values[slot - 1];
+                if (prev == 0) {
+                    table[index] = next[slot - 1];
+                } else {
+                    next[prev - 1] = next[slot - 1];
+                }
+                releaseSlot(slot);
+                size--;
+                return returnValue;
+            }
+            prev = slot;
+        }
+
+        throw new NoSuchElementException("Key is not in the map.");
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key the key to search for in the map
+     * @return the value associated with the given key
+     * @throws java.util.NoSuchElementException if the key is not in the map
+     */
+    public int get(int key) {
+
+        int slot = find(key);
+        if (slot == 0) {
+            throw new NoSuchElementException("Key is not in the map.");
+        }
+        return values[slot - 1];
+    }
+
+    /**
+     * Returns whether or not the key is in the map.
+     *
+     * @param key the key to search for in the map
+     * @return true if the key is contained within the map, false
+     * otherwise
+     */
+    public boolean containsKey(int key) {
+        return find(key) != 0;
+    }
+
+    /**
+     * Returns a Set view of the keys contained in this map.
+     *
+     * @return the set of keys in this map
+     */
+    public Set<Integer> keySet() {
+
+        Set<Integer> returnKeySet = new HashSet<>();
+
+        for (int i = 0; i < table.length; i++) {
+            for (int slot = table[i]; slot != 0; slot = next[slot - 1]) {
+                returnKeySet.add(keys[slot - 1]);
+            }
+        }
+
+        return returnKeySet;
+    }
+
+    /**
+     * Returns a List view of the values contained in this map, in order of
+     * increasing table index and then chain order.
+     *
+     * @return list of values in this map
+     */
+    public List<Integer> values() {
+
+        List<Integer> valueList = new ArrayList<>();
+
+        for (int i = 0; i < table.length; i++) {
+            for (int slot = table[i]; slot != 0; slot = next[slot - 1]) {
+                valueList.add(values[slot - 1]);
+            }
+        }
+
+        return valueList;
+    }
+
+    /**
+     * Resize the backing table to length.
+     *
+     * Only the table of chain heads is reallocated; the entries stay in their
+     * slots and are just relinked into their new chains.
+     *
+     * @param length new length of the backing table
+     * @throws java.lang.IllegalArgumentException if length is less than the
+     *                                            number of items in the hash
+     *                                            map
+     */
+    public void resizeBackingTable(int length) {
+
+        if (length < size) {
+            throw new IllegalArgumentException("Length cannot be less than the numbers of items in the hash map.");
+        }
+
+        int[] oldTable = table;
+        table = new int[length];
+
+        for (int i = 0; i < oldTable.length; i++) {
+            int slot = oldTable[i];
+            while (slot != 0) {
+                int nextSlot = next[slot - 1];
+                int index = indexFor(keys[slot - 1], length);
+                next[slot - 1] = table[index];
+                table[index] = slot;
+                slot = nextSlot;
+            }
+        }
+    }
+
+    /**
+     * Clears the map.
+     *
+     * Resets the table to a new array of the initial capacity and resets the
+     * size.
+     */
+    public void clear() {
+        table = new int[INITIAL_CAPACITY];
+        allocateEntries(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Private helper to find the slot holding key.
+     *
+     * @param key the key to search for
+     * @return the slot of the entry (off by one), or 0 if it is not in the map
+     */
+    private int find(int key) {
+        int slot = table[indexFor(key, table.length)];
+        while (slot != 0 && keys[slot - 1] != key) {
+            slot = next[slot - 1];
+        }
+        return slot;
+    }
+
+    /**
+     * Private helper that computes the bucket of a key. Matches the index
+     * ExternalChainingHashMap would use for the boxed key.
+     *
+     * @param key    the key
+     * @param length the length of the table
+     * @return the bucket index
+     */
+    private static int indexFor(int key, int length) {
+        return Math.abs(key % length);
+    }
+
+    /**
+     * Private helper that hands out a free entry slot, growing the entry
+     * arrays if every slot is in use.
+     *
+     * @return the slot (off by one)
+     */
+    private int takeSlot() {
+        if (free != 0) {
+            int slot = free;
+            free = next[slot - 1];
+            return slot;
+        }
+        if (used == keys.length) {
+            int length = Math.max(2 * keys.length, 1);
+            keys = Arrays.copyOf(keys, length);
+            values = Arrays.copyOf(values, length);
+            next = Arrays.copyOf(next, length);
+        }
+        used++;
+        return used;
+    }
+
+    /**
+     * Private helper that puts a removed slot on the free list.
+     *
+     * @param slot the slot (off by one)
+     */
+    private void releaseSlot(int slot) {
+        next[slot - 1] = free;
+        free = slot;
+    }
+
+    /**
+     * Private helper that (re)allocates empty entry arrays.
+     *
+     * @param capacity the number of entry slots
+     */
+    private void allocateEntries(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        next = new int[capacity];
+        used = 0;
+        free = 0;
+    }
+}
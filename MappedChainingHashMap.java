@@ -0,0 +1,779 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A chaining HashMap stored in a memory-mapped file instead of on the Java
+ * heap.
+ *
+ * Keys and values are written with a FixedWidthCodec, so every entry has the
+ * same size. Opening an existing file just maps it again; nothing is rebuilt,
+ * so the map is ready right away no matter how many entries it has.
+ *
+ * File layout, all positions are longs into the file:
+ *   header   - HEADER_SIZE bytes, see the *_AT constants
+ *   tables   - length * 8 bytes, the position of each chain's first entry
+ *   entries  - two next positions (8 each), hash (4), key bytes, value
+ *              bytes, padded to a multiple of 8
+ * Tables and entries are allocated from the end of the file. A removed entry
+ * goes on a free list and is reused; the old table left behind by a resize is
+ * not reused. Position 0 (the header) means "no entry".
+ *
+ * The header describes two tables, and an entry has a next position for
+ * each; the active flag in the header says which pair is in use. A resize
+ * builds the new table with the inactive next positions, leaving the active
+ * chains untouched, and then switches over with a single write of the
+ * active flag.
+ *
+ * If the process dies partway through any change, the file still holds a
+ * valid map. Every change becomes visible with one aligned write (a table
+ * slot, a next position or the active flag) made after everything it points
+ * to is written, so the interrupted change either happened or it didn't.
+ * At worst the space of one entry is lost. The header's dirty flag is set
+ * while a change is in progress; if it is still set when the file is opened,
+ * the size is recounted by walking the chains. Replacing the value of an
+ * existing key writes it in place, so a value the codec does not write with
+ * one aligned store may be left half written. Surviving an operating system
+ * crash or power loss, where pages can reach the disk in any order, also
+ * needs force() between changes.
+ *
+ * The file is mapped in SEGMENT_SIZE pieces because one mapping can't be
+ * over 2GB. Entries never cross a segment boundary. Mapping a segment makes
+ * the file that long, so a new map file takes a full segment from its first
+ * open and grows a segment at a time (on most filesystems the unwritten part
+ * is sparse and uses no disk blocks). An existing file's header is read and
+ * checked before anything is mapped, so opening a file that doesn't hold a
+ * map leaves it as it was.
+ *
+ * Keys are hashed from their bytes rather than hashCode(), so the table is
+ * still valid when the file is opened by another process, and tables are
+ * powers of two indexed with TableSizing.POWER_OF_TWO.
+ *
+ * Changes are written straight to the mapping; call force() or close() to
+ * make sure they reach the disk. Not thread safe.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class MappedChainingHashMap<K, V> implements Closeable {
+
+    /*
+     * The initial capacity of a newly created map.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    /*
+     * The max load factor of the map.
+     */
+    public static final double MAX_LOAD_FACTOR = 0.67;
+
+    /*
+     * The size of each mapped piece of the file. A power of two.
+     */
+    public static final int SEGMENT_SIZE = 1 << 26;
+
+    private static final int SEGMENT_SHIFT = 26;
+    private static final int MAGIC = 0x45434D31;
+    private static final int VERSION = 2;
+
+    private static final int HEADER_SIZE = 128;
+    private static final int MAGIC_AT = 0;
+    private static final int VERSION_AT = 4;
+    private static final int KEY_WIDTH_AT = 8;
+    private static final int VALUE_WIDTH_AT = 12;
+    private static final int SIZE_AT = 16;
+    private static final int ACTIVE_AT = 20;
+    private static final int END_AT = 24;
+    private static final int FREE_AT = 32;
+    private static final int TABLE_AT = 40;
+    private static final int TABLE_LENGTH_AT = 56;
+    private static final int DIRTY_AT = 64;
+
+    /*
+     * Entry offsets. NEXT_OFFSET is the next position of table 0; the one
+     * for table 1 follows it. The free list always uses NEXT_OFFSET.
+     */
+    private static final int NEXT_OFFSET = 0;
+    private static final int HASH_OFFSET = 16;
+    private static final int KEY_OFFSET = 20;
+
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> segments;
+    private final FixedWidthCodec<K> keyCodec;
+    private final FixedWidthCodec<V> valueCodec;
+    private final int entrySize;
+    private final ByteBuffer scratch;
+
+    /*
+     * Copies of the header fields. Every change is also written to the header.
+     */
+    private int size;
+    private int active;
+    private int tableLength;
+    private long table;
+    private long end;
+    private long free;
+
+    /**
+     * Opens the map stored in file, or creates an empty one there if the
+     * file does not exist or is empty.
+     *
+     * @param file       the file the map lives in
+     * @param keyCodec   how keys are stored
+     * @param valueCodec how values are stored
+     * @throws java.lang.IllegalArgumentException if any argument is null, if
+     *                                            an entry would not fit in a
+     *                                            segment, or if the file holds
+     *                                            something else or a map with
+     *                                            different widths
+     * @throws java.io.IOException                if the file can't be opened
+     *                                            or mapped
+     */
+    public MappedChainingHashMap(Path file, FixedWidthCodec<K> keyCodec, FixedWidthCodec<V> valueCodec)
+        throws IOException {
+
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null.");
+        } else if (keyCodec == null || valueCodec == null) {
+            throw new IllegalArgumentException("Codecs cannot be null.");
+        }
+
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        entrySize = (KEY_OFFSET + keyCodec.width() + valueCodec.width() + 7) & ~7;
+        if (entrySize > SEGMENT_SIZE) {
+            throw new IllegalArgumentException("Entries cannot be bigger than a segment.");
+        }
+        scratch = ByteBuffer.allocate(keyCodec.width());
+        segments = new ArrayList<>();
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+
+        try {
+            if (channel.size() == 0) {
+                // The magic number goes last, so a file whose creation was
+                // interrupted is rejected instead of read.
+                mapThrough(HEADER_SIZE);
+                putInt(KEY_WIDTH_AT, keyCodec.width());
+                putInt(VALUE_WIDTH_AT, valueCodec.width());
+                end = HEADER_SIZE;
+                putLong(END_AT, end);
+                reset(INITIAL_CAPACITY);
+                putInt(VERSION_AT, VERSION);
+                putInt(MAGIC_AT, MAGIC);
+            } else {
+                ByteBuffer header = readHeader();
+                if (header.getInt(MAGIC_AT) != MAGIC || header.getInt(VERSION_AT) != VERSION) {
+                    throw new IllegalArgumentException("File does not hold a map.");
+                } else if (header.getInt(KEY_WIDTH_AT) != keyCodec.width()
+                    || header.getInt(VALUE_WIDTH_AT) != valueCodec.width()) {
+                    throw new IllegalArgumentException("File holds a map with different key or value widths.");
+                }
+                size = header.getInt(SIZE_AT);
+                active = header.getInt(ACTIVE_AT);
+                end = header.getLong(END_AT);
+                if ((active != 0 && active != 1) || end < HEADER_SIZE || end > channel.size()) {
+                    throw new IllegalArgumentException("File does not hold a map.");
+                }
+                tableLength = header.getInt(TABLE_LENGTH_AT + 4 * active);
+                table = header.getLong(TABLE_AT + 8 * active);
+                free = header.getLong(FREE_AT);
+                // Only the segments up to end; the file is already that long.
+                mapThrough(end);
+                if (getInt(DIRTY_AT) != 0) {
+                    recount();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Adds the given key-value pair to the map. If an entry in the map
+     * already has this key, replace the entry's value with the new one
+     * passed in.
+     *
+     * If adding would exceed MAX_LOAD_FACTOR, the table is first doubled.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return null if the key was not already in the map. If it was in the
+     * map, return the old value associated with it
+     * @throws java.lang.IllegalArgumentException if key or value is null
+     * @throws java.io.UncheckedIOException       if the file can't be grown
+     */
+    public V put(K key, V value) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+
+        if (((size + 1.0) / tableLength) > MAX_LOAD_FACTOR) {
+            resizeBackingTable(2 * tableLength);
+        }
+
+        int hash = encodeKey(key);
+        long entry = find(hash);
+        if (entry != 0) {
+            V returnValue = readValue(entry);
+            writeValue(entry, value);
+            return returnValue;
+        }
+
+        // The entry is written in full before the bucket points to it.
+        beginChange();
+        long bucket = bucketOf(hash, table, tableLength);
+        entry = allocateEntry();
+        putLong(entry + nextOffset(active), getLong(bucket));
+        putInt(entry + HASH_OFFSET, hash);
+        keyCodec.write(key, segment(entry), offset(entry) + KEY_OFFSET);
+        writeValue(entry, value);
+        setSize(size + 1);
+        putLong(bucket, entry);
+        endChange();
+        return null;
+    }
+
+    /**
+     * Removes the entry with a matching key from the map.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    public V remove(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        int hash = encodeKey(key);
+        int next = nextOffset(active);
+        long prev = bucketOf(hash, table, tableLength);
+        long entry = getLong(prev);
+
+        while (entry != 0) {
+            if (matches(entry, hash)) {
+                // Unlink first, then put the entry on the free list.
+                V returnValue = readValue(entry);
+                beginChange();
+                setSize(size - 1);
+                putLong(prev, getLong(entry + next));
+                putLong(entry + NEXT_OFFSET, free);
+                free = entry;
+                putLong(FREE_AT, free);
+                endChange();
+                return returnValue;
+            }
+            prev = entry + next;
+            entry = getLong(prev);
+        }
+
+        throw new NoSuchElementException("Key is not in the map.");
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key the key to search for in the map
+     * @return the value associated with the given key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    public V get(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        long entry = find(encodeKey(key));
+        if (entry == 0) {
+            throw new NoSuchElementException("Key is not in the map.");
+        }
+        return readValue(entry);
+    }
+
+    /**
+     * Returns whether or not the key is in the map.
+     *
+     * @param key the key to search for in the map
+     * @return true if the key is contained within the map, false
+     * otherwise
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public boolean containsKey(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        return find(encodeKey(key)) != 0;
+    }
+
+    /**
+     * Returns a Set of the keys contained in this map, read onto the heap.
+     *
+     * @return the set of keys in this map
+     */
+    public Set<K> keySet() {
+
+        Set<K> returnKeySet = new HashSet<>();
+
+        for (int i = 0; i < tableLength; i++) {
+            for (long e = getLong(table + 8L * i); e != 0; e = getLong(e + nextOffset(active))) {
+                returnKeySet.add(keyCodec.read(segment(e), offset(e) + KEY_OFFSET));
+            }
+        }
+
+        return returnKeySet;
+    }
+
+    /**
+     * Returns a List of the values contained in this map, read onto the
+     * heap, in order of increasing table index and then chain order.
+     *
+     * @return list of values in this map
+     */
+    public List<V> values() {
+
+        List<V> valueList = new ArrayList<>();
+
+        for (int i = 0; i < tableLength; i++) {
+            for (long e = getLong(table + 8L * i); e != 0; e = getLong(e + nextOffset(active))) {
+                valueList.add(readValue(e));
+            }
+        }
+
+        return valueList;
+    }
+
+    /**
+     * Resize the backing table to length, rounded up to a power of two.
+     *
+     * A new table is allocated at the end of the file and the entries are
+     * linked into it with their inactive next positions, using their stored
+     * hashes; no key is decoded or rehashed. The current chains are not
+     * touched until a single write of the header's active flag switches to
+     * the new table. The old table's space is not reused.
+     *
+     * @param length new length of the backing table
+     * @throws java.lang.IllegalArgumentException if length is less than the
+     *                                            number of items in the hash
+     *                                            map
+     * @throws java.io.UncheckedIOException       if the file can't be grown
+     */
+    public void resizeBackingTable(int length) {
+
+        if (length < size) {
+            throw new IllegalArgumentException("Length cannot be less than the numbers of items in the hash map.");
+        }
+
+        int newLength = TableSizing.POWER_OF_TWO.tableLength(Math.max(length, 1));
+        long newTable = allocateTable(newLength);
+        int next = nextOffset(active);
+        int newNext = nextOffset(1 - active);
+
+        for (int i = 0; i < tableLength; i++) {
+            for (long e = getLong(table + 8L * i); e != 0; e = getLong(e + next)) {
+                long bucket = bucketOf(getInt(e + HASH_OFFSET), newTable, newLength);
+                putLong(e + newNext, getLong(bucket));
+                putLong(bucket, e);
+            }
+        }
+
+        switchTable(newTable, newLength);
+    }
+
+    /**
+     * Clears the map.
+     *
+     * Starts over with an empty table of the initial capacity. The file's
+     * old contents are overwritten as the map fills up again.
+     *
+     * @throws java.io.UncheckedIOException if the file can't be grown
+     */
+    public void clear() {
+        reset(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Writes every change made so far to the disk.
+     */
+    public void force() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    /**
+     * Writes every change to the disk and closes the file. The map must not
+     * be used afterwards.
+     *
+     * @throws java.io.IOException if the file can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    /**
+     * Private helper that empties the map, ending with a new table of the
+     * given length right after the header.
+     *
+     * An empty table is first switched to at the end of the file, so the
+     * old entries are unreachable before the space after the header is
+     * overwritten.
+     *
+     * @param length the table length, a power of two
+     */
+    private void reset(int length) {
+        beginChange();
+        switchTable(allocateTable(length), length);
+        setSize(0);
+        free = 0;
+        putLong(FREE_AT, free);
+
+        long compactEnd = HEADER_SIZE + 8L * length;
+        if (table >= compactEnd) {
+            for (int i = 0; i < length; i++) {
+                putLong(HEADER_SIZE + 8L * i, 0);
+            }
+            switchTable(HEADER_SIZE, length);
+            end = compactEnd;
+            putLong(END_AT, end);
+        }
+        endChange();
+    }
+
+    /**
+     * Private helper that recounts the size by walking the chains, after a
+     * change was interrupted.
+     */
+    private void recount() {
+        int count = 0;
+        for (int i = 0; i < tableLength; i++) {
+            for (long e = getLong(table + 8L * i); e != 0; e = getLong(e + nextOffset(active))) {
+                count++;
+            }
+        }
+        setSize(count);
+        endChange();
+    }
+
+    /**
+     * Private helper that marks a change as in progress in the header.
+     */
+    private void beginChange() {
+        putInt(DIRTY_AT, 1);
+    }
+
+    /**
+     * Private helper that marks the change in progress as finished.
+     */
+    private void endChange() {
+        putInt(DIRTY_AT, 0);
+    }
+
+    /**
+     * Private helper that returns the entry offset of the next position used
+     * by table 0 or 1.
+     *
+     * @param which the table, 0 or 1
+     * @return the offset of its next position
+     */
+    private static int nextOffset(int which) {
+        return NEXT_OFFSET + 8 * which;
+    }
+
+    /**
+     * Private helper that writes key into the scratch buffer and hashes its
+     * bytes (32-bit FNV-1a).
+     *
+     * @param key the key
+     * @return the hash of the key's bytes
+     */
+    private int encodeKey(K key) {
+        keyCodec.write(key, scratch, 0);
+        int hash = 0x811c9dc5;
+        for (int i = 0; i < scratch.capacity(); i++) {
+            hash = (hash ^ (scratch.get(i) & 0xff)) * 0x01000193;
+        }
+        return hash;
+    }
+
+    /**
+     * Private helper that finds the entry holding the key in the scratch
+     * buffer.
+     *
+     * @param hash the hash of the key
+     * @return the position of the entry, or 0 if the key is not in the map
+     */
+    private long find(int hash) {
+        long e = getLong(bucketOf(hash, table, tableLength));
+        while (e != 0 && !matches(e, hash)) {
+            e = getLong(e + nextOffset(active));
+        }
+        return e;
+    }
+
+    /**
+     * Private helper that checks whether the entry at e holds the key in the
+     * scratch buffer.
+     *
+     * @param e    the position of the entry
+     * @param hash the hash of the key
+     * @return true if the entry has this key
+     */
+    private boolean matches(long e, int hash) {
+        if (getInt(e + HASH_OFFSET) != hash) {
+            return false;
+        }
+        ByteBuffer segment = segment(e);
+        int keyAt = offset(e) + KEY_OFFSET;
+        for (int i = 0; i < scratch.capacity(); i++) {
+            if (segment.get(keyAt + i) != scratch.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Private helper that reads the value of an entry.
+     *
+     * @param e the position of the entry
+     * @return the value
+     */
+    private V readValue(long e) {
+        return valueCodec.read(segment(e), offset(e) + KEY_OFFSET + keyCodec.width());
+    }
+
+    /**
+     * Private helper that writes the value of an entry.
+     *
+     * @param e     the position of the entry
+     * @param value the value
+     */
+    private void writeValue(long e, V value) {
+        valueCodec.write(value, segment(e), offset(e) + KEY_OFFSET + keyCodec.width());
+    }
+
+    /**
+     * Private helper that returns the position of the bucket for hash.
+     *
+     * @param hash        the hash of the key
+     * @param tableAt     the position of the table
+     * @param tableLength the length of the table
+     * @return the position of the bucket
+     */
+    private static long bucketOf(int hash, long tableAt, int tableLength) {
+        return tableAt + 8L * TableSizing.POWER_OF_TWO.indexFor(hash, tableLength);
+    }
+
+    /**
+     * Private helper that takes an entry from the free list, or else from the
+     * end of the file, skipping to the next segment if it would not fit in
+     * the current one.
+     *
+     * @return the position of the entry
+     */
+    private long allocateEntry() {
+        long e;
+        if (free != 0) {
+            e = free;
+            free = getLong(e + NEXT_OFFSET);
+            putLong(FREE_AT, free);
+        } else {
+            if (offset(end) + entrySize > SEGMENT_SIZE) {
+                end = (end | (SEGMENT_SIZE - 1)) + 1;
+            }
+            e = end;
+            setEnd(end + entrySize);
+        }
+        return e;
+    }
+
+    /**
+     * Private helper that allocates a zeroed table at the end of the file. It
+     * starts on a multiple of 8, so none of its slots cross a segment.
+     *
+     * @param length the table length
+     * @return the position of the table
+     */
+    private long allocateTable(int length) {
+        long tableAt = (end + 7) & ~7L;
+        setEnd(tableAt + 8L * length);
+        for (int i = 0; i < length; i++) {
+            putLong(tableAt + 8L * i, 0);
+        }
+        return tableAt;
+    }
+
+    /**
+     * Private helper that moves the end of the file, mapping more of it if
+     * needed.
+     *
+     * @param newEnd the new end
+     */
+    private void setEnd(long newEnd) {
+        try {
+            mapThrough(newEnd);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        end = newEnd;
+        putLong(END_AT, end);
+    }
+
+    /**
+     * Private helper that updates the size here and in the header.
+     *
+     * @param newSize the new size
+     */
+    private void setSize(int newSize) {
+        size = newSize;
+        putInt(SIZE_AT, size);
+    }
+
+    /**
+     * Private helper that makes a fully built table the active one. It is
+     * written to the inactive table slot of the header, and then the active
+     * flag is flipped with one write.
+     *
+     * @param tableAt the position of the table
+     * @param length  the length of the table
+     */
+    private void switchTable(long tableAt, int length) {
+        int inactive = 1 - active;
+        putLong(TABLE_AT + 8 * inactive, tableAt);
+        putInt(TABLE_LENGTH_AT + 4 * inactive, length);
+        putInt(ACTIVE_AT, inactive);
+        active = inactive;
+        table = tableAt;
+        tableLength = length;
+    }
+
+    /**
+     * Private helper that reads the header of an existing file without
+     * mapping it, so a file that turns out not to hold a map is not
+     * extended.
+     *
+     * @return the header bytes
+     * @throws java.lang.IllegalArgumentException if the file is shorter than
+     *                                            the header
+     * @throws java.io.IOException                if the file can't be read
+     */
+    private ByteBuffer readHeader() throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            throw new IllegalArgumentException("File does not hold a map.");
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new IllegalArgumentException("File does not hold a map.");
+            }
+        }
+        return header;
+    }
+
+    /**
+     * Private helper that maps segments until position limit is covered.
+     *
+     * @param limit the position that must be mapped
+     * @throws java.io.IOException if the file can't be mapped
+     */
+    private void mapThrough(long limit) throws IOException {
+        while (((long) segments.size() << SEGMENT_SHIFT) < limit) {
+            long start = (long) segments.size() << SEGMENT_SHIFT;
+            segments.add(channel.map(FileChannel.MapMode.READ_WRITE, start, SEGMENT_SIZE));
+        }
+    }
+
+    /**
+     * Private helper that returns the segment holding a position.
+     *
+     * @param pos the position
+     * @return the segment
+     */
+    private ByteBuffer segment(long pos) {
+        return segments.get((int) (pos >>> SEGMENT_SHIFT));
+    }
+
+    /**
+     * Private helper that returns where a position is inside its segment.
+     *
+     * @param pos the position
+     * @return the offset in the segment
+     */
+    private static int offset(long pos) {
+        return (int) (pos & (SEGMENT_SIZE - 1));
+    }
+
+    /**
+     * Private helper that reads an int at a position.
+     *
+     * @param pos the position
+     * @return the int
+     */
+    private int getInt(long pos) {
+        return segment(pos).getInt(offset(pos));
+    }
+
+    /**
+     * Private helper that writes an int at a position.
+     *
+     * @param pos   the position
+     * @param value the int
+     */
+    private void putInt(long pos, int value) {
+        segment(pos).putInt(offset(pos), value);
+    }
+
+    /**
+     * Private helper that reads a long at a position.
+     *
+     * @param pos the position
+     * @return the long
+     */
+    private long getLong(long pos) {
+        return segment(pos).getLong(offset(pos));
+    }
+
+    /**
+     * Private helper that writes a long at a position.
+     *
+     * @param pos   the position
+     * @param value the long
+     */
+    private void putLong(long pos, long value) {
+        segment(pos).putLong(offset(pos), value);
+    }
+}
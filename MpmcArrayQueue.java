@@ -0,0 +1,261 @@
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free queue that any number of threads can enqueue to and
+ * dequeue from at the same time.
+ *
+ * The queue is a ring of slots, each with a sequence number that says whose
+ * turn it is. A slot whose sequence equals a producer's tail position is free
+ * for that producer; one whose sequence is one past a consumer's head
+ * position holds that consumer's element. Producers and consumers claim a
+ * position with a single CAS on the tail or head counter and then only touch
+ * their own slot, so no thread ever waits on a lock.
+ *
+ * The head and tail counters are padded so they sit on different cache
+ * lines, and producers and consumers don't slow each other down by writing
+ * to the same line.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class MpmcArrayQueue<T> {
+
+    /*
+     * The capacity of the queue when created with the default constructor.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final AtomicReferenceArray<T> buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final PaddedCounter head;
+    private final PaddedCounter tail;
+
+    /**
+     * Constructs a new MpmcArrayQueue with a capacity of DEFAULT_CAPACITY.
+     */
+    public MpmcArrayQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new MpmcArrayQueue.
+     *
+     * @param capacity the most elements the queue holds, rounded up to a
+     *                 power of two (at least 2)
+     * @throws java.lang.IllegalArgumentException if capacity is not positive
+     *                                            or too large
+     */
+    public MpmcArrayQueue(int capacity) {
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        } else if (capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity is too large.");
+        }
+
+        int length = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        buffer = new AtomicReferenceArray<>(length);
+        sequences = new AtomicLongArray(length);
+        for (int i = 0; i < length; i++) {
+            sequences.set(i, i);
+        }
+        mask = length - 1;
+        head = new PaddedCounter();
+        tail = new PaddedCounter();
+    }
+
+    /**
+     * Adds the data to the back of the queue.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the back of the queue
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.IllegalStateException    if the queue is full
+     */
+    public void enqueue(T data) {
+        if (!offer(data)) {
+            throw new IllegalStateException("The queue is full.");
+        }
+    }
+
+    /**
+     * Adds the data to the back of the queue if there is room.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the back of the queue
+     * @return true if the data was added, false if the queue is full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+
+        long position;
+        int index;
+        while (true) {
+            position = tail.value;
+            index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (PaddedCounter.VALUE.compareAndSet(tail, position, position + 1)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                // The slot still holds the element from one lap ago.
+                return false;
+            }
+            // Otherwise another producer took this position; try again.
+        }
+
+        buffer.lazySet(index, data);
+        sequences.lazySet(index, position + 1);
+        return true;
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T dequeue() {
+        T data = poll();
+        if (data == null) {
+            throw new NoSuchElementException("The queue is empty.");
+        }
+        return data;
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, if any.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the queue, or null
+     * if the queue is empty
+     */
+    public T poll() {
+
+        long position;
+        int index;
+        while (true) {
+            position = head.value;
+            index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+
+            if (difference == 0) {
+                if (PaddedCounter.VALUE.compareAndSet(head, position, position + 1)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                // No producer has filled this slot yet.
+                return null;
+            }
+        }
+
+        T data = buffer.get(index);
+        buffer.lazySet(index, null);
+        sequences.lazySet(index, position + mask + 1);
+        return data;
+    }
+
+    /**
+     * Returns the data from the front of the queue without removing it.
+     *
+     * With other consumers running, the element may already be gone by the
+     * time this returns.
+     *
+     * Must be O(1).
+     *
+     * @return the data located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T peek() {
+
+        while (true) {
+            long position = head.value;
+            int index = (int) position & mask;
+            long sequence = sequences.get(index);
+
+            if (sequence == position + 1) {
+                T data = buffer.get(index);
+                // Only trust the element if the slot wasn't consumed while
+                // we read it.
+                if (data != null && sequences.get(index) == sequence) {
+                    return data;
+                }
+            } else if (sequence == position && head.value == position) {
+                throw new NoSuchElementException("The queue is empty.");
+            }
+        }
+    }
+
+    /**
+     * Returns whether or not the queue is empty. Only a snapshot while other
+     * threads are running.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the capacity of the queue.
+     *
+     * @return the capacity of the queue
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the size of the queue. Only a snapshot while other threads are
+     * running.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        while (true) {
+            long before = head.value;
+            long currentTail = tail.value;
+            if (head.value == before) {
+                return (int) Math.max(0, Math.min(currentTail - before, mask + 1));
+            }
+        }
+    }
+
+    /**
+     * A long counter on a cache line of its own.
+     *
+     * The fields are laid out in declaration order within a size class, so
+     * the seven longs on each side keep value at least 56 bytes away from
+     * anything else.
+     */
+    private static final class PaddedCounter {
+
+        /*
+         * Atomic operations on value.
+         */
+        static final AtomicLongFieldUpdater<PaddedCounter> VALUE =
+                AtomicLongFieldUpdater.newUpdater(PaddedCounter.class, "value");
+
+        long p1, p2, p3, p4, p5, p6, p7;
+        volatile long value;
+        long q1, q2, q3, q4, q5, q6, q7;
+    }
+}
@@ -0,0 +1,341 @@
+/**
+ * Counters describing how a queue has been performing.
+ *
+ * A queue with metrics enabled updates one of these as it runs and hands out
+ * copies of it (snapshots) stamped with its depth at the time, so a stalled
+ * pipeline can be told apart as a slow consumer (depth and residence time
+ * climbing), a slow producer (low rates, empty queue) or resize pauses.
+ *
+ * Residence time, how long an element sat in the queue, is measured for one
+ * in every SAMPLE_INTERVAL elements and kept in a histogram that splits each
+ * power of two into SUB_BUCKETS equal buckets, so a percentile read from it
+ * is within about 6% of the true value and recording it never allocates.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class QueueMetrics {
+
+    /*
+     * One in this many enqueued elements has its residence time measured.
+     * Must be a power of two.
+     */
+    public static final int SAMPLE_INTERVAL = 16;
+
+    /*
+     * The number of equal buckets each power of two of residence time is
+     * split into. A bucket is at most 1/SUB_BUCKETS of the times it holds
+     * wide. Must be a power of two.
+     */
+    public static final int SUB_BUCKETS = 16;
+
+    /*
+     * log2(SUB_BUCKETS).
+     */
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+
+    /*
+     * The number of residence time buckets. Times below 2 * SUB_BUCKETS
+     * nanoseconds get a bucket each; every power of two above that is split
+     * into SUB_BUCKETS buckets, up to Long.MAX_VALUE.
+     */
+    public static final int HISTOGRAM_BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long startNanos;
+    private long elapsedNanos;
+    private long enqueues;
+    private long dequeues;
+    private int depth;
+    private int maxDepth;
+    private int resizes;
+    private long resizeNanos;
+    private long samples;
+    private long residenceNanos;
+    private long maxResidenceNanos;
+    private long[] residenceHistogram;
+
+    /**
+     * Creates empty counters, starting the clock for the rates now.
+     */
+    public QueueMetrics() {
+        this(System.nanoTime());
+    }
+
+    /**
+     * Creates empty counters with the given start time.
+     *
+     * @param startNanos when the counters started, from System.nanoTime
+     */
+    private QueueMetrics(long startNanos) {
+        this.startNanos = startNanos;
+        residenceHistogram = new long[HISTOGRAM_BUCKETS];
+    }
+
+    /**
+     * Records an enqueue.
+     *
+     * @param depth the size of the queue after the enqueue
+     * @return whether this element's residence time should be measured
+     */
+    boolean recordEnqueue(int depth) {
+        if (depth > maxDepth) {
+            maxDepth = depth;
+        }
+        return (enqueues++ & (SAMPLE_INTERVAL - 1)) == 0;
+    }
+
+    /**
+     * Records a dequeue of an element that was not sampled.
+     */
+    void recordDequeue() {
+        dequeues++;
+    }
+
+    /**
+     * Records a dequeue of a sampled element.
+     *
+     * @param residence how long the element was in the queue, in nanoseconds
+     */
+    void recordDequeue(long residence) {
+        dequeues++;
+        samples++;
+        residenceNanos += residence;
+        if (residence > maxResidenceNanos) {
+            maxResidenceNanos = residence;
+        }
+        residenceHistogram[bucketFor(residence)]++;
+    }
+
+    /**
+     * Records a resize of the backing array.
+     *
+     * @param nanos how long it took
+     */
+    void recordResize(long nanos) {
+        resizes++;
+        resizeNanos += nanos;
+    }
+
+    /**
+     * Returns a copy of these counters, stamped with the current time and
+     * the queue's current depth.
+     *
+     * @param depth the size of the queue
+     * @return the snapshot
+     */
+    QueueMetrics snapshot(int depth) {
+        QueueMetrics copy = new QueueMetrics(startNanos);
+        copy.elapsedNanos = System.nanoTime() - startNanos;
+        copy.enqueues = enqueues;
+        copy.dequeues = dequeues;
+        copy.depth = depth;
+        copy.maxDepth = maxDepth;
+        copy.resizes = resizes;
+        copy.resizeNanos = resizeNanos;
+        copy.samples = samples;
+        copy.residenceNanos = residenceNanos;
+        copy.maxResidenceNanos = maxResidenceNanos;
+        copy.residenceHistogram = residenceHistogram.clone();
+        return copy;
+    }
+
+    /**
+     * Returns how long the counters had been running when the snapshot was
+     * taken.
+     *
+     * @return the elapsed time, in nanoseconds, 0 if this is not a snapshot
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the number of elements enqueued.
+     *
+     * @return the enqueue count
+     */
+    public long getEnqueueCount() {
+        return enqueues;
+    }
+
+    /**
+     * Returns the number of elements dequeued.
+     *
+     * @return the dequeue count
+     */
+    public long getDequeueCount() {
+        return dequeues;
+    }
+
+    /**
+     * Returns the average number of enqueues per second since the counters
+     * started.
+     *
+     * @return the enqueue rate, 0 if this is not a snapshot
+     */
+    public double getEnqueueRate() {
+        return (elapsedNanos == 0) ? 0 : enqueues * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns the average number of dequeues per second since the counters
+     * started.
+     *
+     * @return the dequeue rate, 0 if this is not a snapshot
+     */
+    public double getDequeueRate() {
+        return (elapsedNanos == 0) ? 0 : dequeues * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns the size of the queue when the snapshot was taken.
+     *
+     * @return the current depth
+     */
+    public int getCurrentDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the largest size the queue reached.
+     *
+     * @return the max depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Returns the number of times the backing array was resized.
+     *
+     * @return the resize count
+     */
+    public int getResizeCount() {
+        return resizes;
+    }
+
+    /**
+     * Returns the total time spent resizing the backing array.
+     *
+     * @return the time spent resizing, in nanoseconds
+     */
+    public long getResizeNanos() {
+        return resizeNanos;
+    }
+
+    /**
+     * Returns the number of dequeued elements whose residence time was
+     * measured.
+     *
+     * @return the sample count
+     */
+    public long getSampleCount() {
+        return samples;
+    }
+
+    /**
+     * Returns the average residence time of the sampled elements.
+     *
+     * @return the average residence time, in nanoseconds, 0 if there were
+     * no samples
+     */
+    public double getAverageResidenceNanos() {
+        return (samples == 0) ? 0 : (double) residenceNanos / samples;
+    }
+
+    /**
+     * Returns the longest residence time of the sampled elements.
+     *
+     * @return the max residence time, in nanoseconds
+     */
+    public long getMaxResidenceNanos() {
+        return maxResidenceNanos;
+    }
+
+    /**
+     * Returns an upper bound on the given percentile of residence time: the
+     * top of the histogram bucket that percentile falls in, or the max if
+     * that is smaller. At most 1/SUB_BUCKETS (about 6%) above the true
+     * value.
+     *
+     * @param percentile the percentile, from 0 to 100
+     * @return the residence time at the percentile, in nanoseconds, 0 if
+     * there were no samples
+     * @throws java.lang.IllegalArgumentException if percentile is not from 0
+     *                                            to 100
+     */
+    public long getResidencePercentile(double percentile) {
+
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be from 0 to 100.");
+        }
+
+        if (samples == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * samples));
+        long seen = 0;
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            seen += residenceHistogram[i];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), maxResidenceNanos);
+            }
+        }
+        return maxResidenceNanos;
+    }
+
+    /**
+     * Returns how many sampled elements fell in each residence time bucket.
+     * Index i counts times from getBucketUpperBound(i - 1) (exclusive) to
+     * getBucketUpperBound(i) (inclusive) nanoseconds; index 0 counts times
+     * of 0.
+     *
+     * @return a copy of the residence time histogram
+     */
+    public long[] getResidenceHistogram() {
+        return residenceHistogram.clone();
+    }
+
+    /**
+     * Returns the largest residence time that falls in a histogram bucket.
+     *
+     * @param bucket the bucket index
+     * @return the top of the bucket, in nanoseconds
+     * @throws java.lang.IllegalArgumentException if bucket is not from 0 to
+     *                                            HISTOGRAM_BUCKETS - 1
+     */
+    public static long getBucketUpperBound(int bucket) {
+
+        if (bucket < 0 || bucket >= HISTOGRAM_BUCKETS) {
+            throw new IllegalArgumentException("Bucket is not in the histogram.");
+        }
+
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+        long bottom = (long) (SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) << shift;
+        return bottom + (1L << shift) - 1;
+    }
+
+    /**
+     * Private helper that returns the histogram bucket for a residence time:
+     * the power of two it falls in picks a group of SUB_BUCKETS buckets, and
+     * the SUB_BUCKET_BITS bits below its top bit pick the bucket in the
+     * group.
+     *
+     * @param nanos the residence time, in nanoseconds
+     * @return the bucket index
+     */
+    private static int bucketFor(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (nanos <= 0) ? 0 : (int) nanos;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + ((int) (nanos >>> shift) & (SUB_BUCKETS - 1));
+    }
+}
@@ -0,0 +1,283 @@
+import java.util.NoSuchElementException;
+
+/**
+ * An ArrayList whose backing array follows its size in both directions.
+ *
+ * How the array grows is set by a GrowthPolicy. Removes shrink the array
+ * when it gets mostly empty: once size drops to a quarter of the length, the
+ * length is halved (never below INITIAL_CAPACITY). Shrinking at a quarter
+ * but only to a half means the list has to grow or shrink by a lot before
+ * the next copy, so adds and removes near the boundary don't keep copying.
+ * ArrayList shrinks by the same rule; this class adds the configurable
+ * growth policy and lets shrinking be turned off, which need fields that
+ * ArrayList can't have.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class ResizingArrayList<T> {
+
+    /*
+     * The initial capacity of the list, and the smallest it shrinks to.
+     */
+    public static final int INITIAL_CAPACITY = 9;
+
+    private final GrowthPolicy growthPolicy;
+    private final boolean autoShrink;
+    private T[] backingArray;
+    private int size;
+
+    /**
+     * Constructs a new ResizingArrayList that doubles when full and shrinks
+     * automatically.
+     */
+    public ResizingArrayList() {
+        this(GrowthPolicy.doubling(), true);
+    }
+
+    /**
+     * Constructs a new ResizingArrayList.
+     *
+     * @param growthPolicy how the backing array grows
+     * @param autoShrink   whether removes shrink the backing array
+     * @throws java.lang.IllegalArgumentException if growthPolicy is null
+     */
+    public ResizingArrayList(GrowthPolicy growthPolicy, boolean autoShrink) {
+
+        if (growthPolicy == null) {
+            throw new IllegalArgumentException("Growth policy cannot be null.");
+        }
+
+        this.growthPolicy = growthPolicy;
+        this.autoShrink = autoShrink;
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds the element to the specified index.
+     *
+     * Must be amortized O(1) for index size (with a doubling or 1.5x policy)
+     * and O(n) for all other cases.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(int index, T data) {
+
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        } else if (index > size) {
+            throw new IndexOutOfBoundsException("Index cannot be more than the size of the ArrayList.");
+        }
+
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+
+        if (size == backingArray.length) {
+            T[] oldArray = backingArray;
+            backingArray = (T[]) new Object[grownLength(size + 1)];
+            System.arraycopy(oldArray, 0, backingArray, 0, index);
+            System.arraycopy(oldArray, index, backingArray, index + 1, size - index);
+        } else {
+            System.arraycopy(backingArray, index, backingArray, index + 1, size - index);
+        }
+
+        backingArray[index] = data;
+        size++;
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Must be O(n).
+     *
+     * @param data the data to add to the front of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        addAtIndex(size, data);
+    }
+
+    /**
+     * Removes and returns the element at the specified index, shrinking the
+     * backing array if it is now at most a quarter full.
+     *
+     * Must be amortized O(1) for index size - 1 and O(n) for all other cases.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T removeAtIndex(int index) {
+
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        } else if (index >= size) {
+            throw new IndexOutOfBoundsException("Index cannot be more than the size of the ArrayList.");
+        }
+
+        T returnValue = backingArray[index];
+        System.arraycopy(backingArray, index + 1, backingArray, index, size - index - 1);
+        backingArray[size - 1] = null;
+        size--;
+
+        if (autoShrink && size <= backingArray.length / 4 && backingArray.length > INITIAL_CAPACITY) {
+            resize(Math.max(INITIAL_CAPACITY, backingArray.length / 2));
+        }
+        return returnValue;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * Must be O(n).
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromFront() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty.");
+        }
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * Must be amortized O(1).
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromBack() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty.");
+        }
+        return removeAtIndex(size - 1);
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index is not in the list.");
+        }
+        return backingArray[index];
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Makes sure the backing array can hold at least minCapacity elements
+     * without growing again. Grows by the growth policy, or straight to
+     * minCapacity if the policy would not be enough.
+     *
+     * @param minCapacity the capacity needed
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > backingArray.length) {
+            resize(grownLength(minCapacity));
+        }
+    }
+
+    /**
+     * Shrinks the backing array to the size of the list (but not below 1).
+     */
+    public void trimToSize() {
+        if (backingArray.length > Math.max(size, 1)) {
+            resize(Math.max(size, 1));
+        }
+    }
+
+    /**
+     * Clears the list.
+     *
+     * Resets the backing array to a new array of the initial capacity and
+     * resets the size.
+     */
+    public void clear() {
+        backingArray = (T[]) new Object[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Returns the growth policy of the list.
+     *
+     * @return the growth policy
+     */
+    public GrowthPolicy getGrowthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Returns the backing array of the list.
+     *
+     * @return the backing array of the list
+     */
+    public T[] getBackingArray() {
+        return backingArray;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Private helper that returns the length the growth policy reaches from
+     * the current length, or minCapacity if that is larger.
+     *
+     * @param minCapacity the capacity needed
+     * @return the new length
+     */
+    private int grownLength(int minCapacity) {
+        return Math.max(minCapacity, growthPolicy.grow(backingArray.length));
+    }
+
+    /**
+     * Private helper that copies the elements into a backing array of the
+     * given length.
+     *
+     * @param length the new length, at least size
+     */
+    private void resize(int length) {
+        T[] newArray = (T[]) new Object[length];
+        System.arraycopy(backingArray, 0, newArray, 0, size);
+        backingArray = newArray;
+    }
+}
@@ -0,0 +1,387 @@
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An open addressing HashMap using Robin Hood hashing.
+ *
+ * Has the same public methods as ExternalChainingHashMap so the two can be
+ * swapped and compared on the same keys. Entries are kept in flat arrays and
+ * collisions are resolved with linear probing. On insert, an entry that is
+ * further from its home bucket takes the slot of an entry that is closer to
+ * its own ("takes from the rich"), which keeps probe lengths short and even.
+ * Removes use backward shift deletion, so there are no DEL markers.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class RobinHoodHashMap<K, V> {
+
+    /*
+     * The initial capacity of the RobinHoodHashMap when created with the
+     * default constructor.
+     */
+    public static final int INITIAL_CAPACITY = 13;
+
+    /*
+     * The max load factor of the RobinHoodHashMap.
+     */
+    public static final double MAX_LOAD_FACTOR = 0.67;
+
+    private K[] keys;
+    private V[] values;
+    /*
+     * probes[i] is 1 + the distance of the entry at i from its home bucket,
+     * or 0 if the slot is empty.
+     */
+    private int[] probes;
+    private int size;
+
+    /**
+     * Constructs a new RobinHoodHashMap.
+     *
+     * The backing array should have an initial capacity of INITIAL_CAPACITY.
+     */
+    public RobinHoodHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs a new RobinHoodHashMap.
+     *
+     * You may assume capacity will always be positive.
+     *
+     * @param capacity the initial capacity of the backing array
+     */
+    public RobinHoodHashMap(int capacity) {
+        keys = (K[]) new Object[capacity];
+        values = (V[]) new Object[capacity];
+        probes = new int[capacity];
+        size = 0;
+    }
+
+    /**
+     * Adds the given key-value pair to the map. If an entry in the map
+     * already has this key, replace the entry's value with the new one
+     * passed in.
+     *
+     * Resizes to 2 * old length + 1 before adding if the load factor would
+     * exceed MAX_LOAD_FACTOR, same as ExternalChainingHashMap.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return null if the key was not already in the map. If it was in the
+     * map, return the old value associated with it
+     * @throws java.lang.IllegalArgumentException if key or value is null
+     */
+    public V put(K key, V value) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+
+        if (((size + 1.0) / keys.length) > MAX_LOAD_FACTOR) {
+            resizeBackingTable(2 * keys.length + 1);
+        }
+
+        int index = indexFor(key, keys.length);
+        int probe = 1;
+
+        while (probes[index] != 0) {
+            if (probes[index] == probe && keys[index].equals(key)) {
+                V returnValue = values[index];
+                values[index] = value;
+                return returnValue;
+            } else if (probes[index] < probe) {
+                // Every key in the map is further along than this, so the key
+                // is new. Take this slot and carry the displaced entry on.
+                break;
+            }
+            index = (index + 1) % keys.length;
+            probe++;
+        }
+
+        insert(key, value, index, probe);
+        size++;
+        return null;
+    }
+
+    /**
+     * Removes the entry with a matching key from the map.
+     *
+     * The entries after it are shifted back by one until an empty slot or an
+     * entry already in its home bucket is reached.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    public V remove(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        int index = find(key);
+        if (index == -1) {
+            throw new NoSuchElementException("Key is not in the map.");
+        }
+
+        V returnValue = values[index];
+        int nextIndex = (index + 1) % keys.length;
+
+        while (probes[nextIndex] > 1) {
+            keys[index] = keys[nextIndex];
+            values[index] = values[nextIndex];
+            probes[index] = probes[nextIndex] - 1;
+            index = nextIndex;
+            nextIndex = (index + 1) % keys.length;
+        }
+
+        keys[index] = null;
+        values[index] = null;
+        probes[index] = 0;
+        size--;
+        return returnValue;
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key the key to search for in the map
+     * @return the value associated with the given key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    public V get(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        int index = find(key);
+        if (index == -1) {
+            throw new NoSuchElementException("Key is not in the map.");
+        }
+        return values[index];
+    }
+
+    /**
+     * Returns whether or not the key is in the map.
+     *
+     * @param key the key to search for in the map
+     * @return true if the key is contained within the map, false
+     * otherwise
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public boolean containsKey(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        return find(key) != -1;
+    }
+
+    /**
+     * Returns a Set view of the keys contained in this map.
+     *
+     * Use java.util.HashSet.
+     *
+     * @return the set of keys in this map
+     */
+    public Set<K> keySet() {
+
+        Set<K> returnKeySet = new HashSet<>();
+
+        for (int i = 0; i < keys.length; i++) {
+            if (probes[i] != 0) {
+                returnKeySet.add(keys[i]);
+            }
+        }
+
+        return returnKeySet;
+    }
+
+    /**
+     * Returns a List view of the values contained in this map, in order of
+     * increasing table index.
+     *
+     * @return list of values in this map
+     */
+    public List<V> values() {
+
+        List<V> valueList = new ArrayList<>();
+
+        for (int i = 0; i < values.length; i++) {
+            if (probes[i] != 0) {
+                valueList.add(values[i]);
+            }
+        }
+
+        return valueList;
+    }
+
+    /**
+     * Resize the backing table to length.
+     *
+     * Disregard the load factor for this method, but the table must still
+     * have room for every entry.
+     *
+     * @param length new length of the backing table
+     * @throws java.lang.IllegalArgumentException if length is less than the
+     *                                            number of items in the hash
+     *                                            map
+     */
+    public void resizeBackingTable(int length) {
+
+        if (length < size) {
+            throw new IllegalArgumentException("Length cannot be less than the numbers of items in the hash map.");
+        }
+
+        K[] oldKeys = keys;
+        V[] oldValues = values;
+        int[] oldProbes = probes;
+        keys = (K[]) new Object[length];
+        values = (V[]) new Object[length];
+        probes = new int[length];
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldProbes[i] != 0) {
+                int index = indexFor(oldKeys[i], length);
+                int probe = 1;
+                while (probes[index] >= probe) {
+                    index = (index + 1) % length;
+                    probe++;
+                }
+                insert(oldKeys[i], oldValues[i], index, probe);
+            }
+        }
+    }
+
+    /**
+     * Clears the map.
+     *
+     * Resets the table to a new array of the initial capacity and resets the
+     * size.
+     */
+    public void clear() {
+        keys = (K[]) new Object[INITIAL_CAPACITY];
+        values = (V[]) new Object[INITIAL_CAPACITY];
+        probes = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Returns the longest probe sequence of any entry currently in the map,
+     * i.e. how many slots a lookup of that key has to look at.
+     *
+     * @return the max probe length, 0 if the map is empty
+     */
+    public int maxProbeLength() {
+        int max = 0;
+        for (int probe : probes) {
+            max = Math.max(max, probe);
+        }
+        return max;
+    }
+
+    /**
+     * Returns the average probe length of a successful lookup over the
+     * entries currently in the map.
+     *
+     * @return the average probe length, 0 if the map is empty
+     */
+    public double averageProbeLength() {
+        if (size == 0) {
+            return 0;
+        }
+        long total = 0;
+        for (int probe : probes) {
+            total += probe;
+        }
+        return (double) total / size;
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Private helper to find the index of key.
+     *
+     * The search can stop as soon as it reaches an entry that is closer to
+     * its home than key would be, since key would have displaced it.
+     *
+     * @param key the key to search for
+     * @return the index of the key, or -1 if it is not in the map
+     */
+    private int find(K key) {
+        int index = indexFor(key, keys.length);
+        int probe = 1;
+
+        while (probes[index] >= probe) {
+            if (probes[index] == probe && keys[index].equals(key)) {
+                return index;
+            }
+            index = (index + 1) % keys.length;
+            probe++;
+        }
+        return -1;
+    }
+
+    /**
+     * Private helper that places an entry that is known not to be in the map
+     * at index, displacing any richer entries further down the table.
+     *
+     * @param key   the key to place
+     * @param value the value to place
+     * @param index the slot to start at
+     * @param probe the probe length of key at index
+     */
+    private void insert(K key, V value, int index, int probe) {
+        while (probes[index] != 0) {
+            if (probes[index] < probe) {
+                K tempKey = keys[index];
+                V tempValue = values[index];
+                int tempProbe = probes[index];
+                keys[index] = key;
+                values[index] = value;
+                probes[index] = probe;
+                key = tempKey;
+                value = tempValue;
+                probe = tempProbe;
+            }
+            index = (index + 1) % keys.length;
+            probe++;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        probes[index] = probe;
+    }
+
+    /**
+     * Private helper that computes the home bucket of a key.
+     *
+     * @param key    the key
+     * @param length the length of the table
+     * @return the bucket index
+     */
+    private static int indexFor(Object key, int length) {
+        return Math.abs(key.hashCode() % length);
+    }
+}
@@ -0,0 +1,221 @@
+import java.util.NoSuchElementException;
+
+/**
+ * An unbounded queue made of fixed-size array segments linked front to back.
+ *
+ * When the back segment fills up, enqueue links a new segment after it
+ * instead of doubling and copying like ArrayQueue, so no enqueue ever copies
+ * existing elements and its cost doesn't depend on how many are queued.
+ * When dequeue empties the front segment, the segment is unlinked. One
+ * drained segment is kept as a spare for the next link, so a queue that
+ * keeps crossing a segment boundary doesn't allocate each time; the rest
+ * are left for the garbage collector, so memory shrinks back after a spike.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class SegmentedArrayQueue<T> {
+
+    /*
+     * The number of elements per segment when created with the default
+     * constructor.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1024;
+
+    private final int segmentSize;
+    private Segment<T> head;
+    private Segment<T> tail;
+    private Segment<T> spare;
+    private int headIndex;
+    private int tailIndex;
+    private int segmentCount;
+    private int size;
+
+    /**
+     * Constructs a new SegmentedArrayQueue with segments of
+     * DEFAULT_SEGMENT_SIZE elements.
+     */
+    public SegmentedArrayQueue() {
+        this(DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructs a new SegmentedArrayQueue.
+     *
+     * @param segmentSize the number of elements per segment
+     * @throws java.lang.IllegalArgumentException if segmentSize is not
+     *                                            positive
+     */
+    public SegmentedArrayQueue(int segmentSize) {
+
+        if (segmentSize < 1) {
+            throw new IllegalArgumentException("Segment size must be positive.");
+        }
+
+        this.segmentSize = segmentSize;
+        head = new Segment<>(segmentSize);
+        tail = head;
+        segmentCount = 1;
+    }
+
+    /**
+     * Adds the data to the back of the queue.
+     *
+     * If the back segment is full, links a new segment after it. Existing
+     * elements are never copied.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the back of the queue
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void enqueue(T data) {
+
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+
+        if (tailIndex == segmentSize) {
+            Segment<T> segment = spare;
+            if (segment == null) {
+                segment = new Segment<>(segmentSize);
+            } else {
+                spare = null;
+            }
+            tail.next = segment;
+            tail = segment;
+            tailIndex = 0;
+            segmentCount++;
+        }
+
+        tail.items[tailIndex++] = data;
+        size++;
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue.
+     *
+     * Replaces the slot it dequeues from with null, and unlinks the front
+     * segment once it is drained.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T dequeue() {
+
+        if (size == 0) {
+            throw new NoSuchElementException("The queue is empty.");
+        }
+
+        T removeElement = head.items[headIndex];
+        head.items[headIndex++] = null;
+        size--;
+
+        if (headIndex == segmentSize) {
+            if (head == tail) {
+                // The only segment is drained; start over at its beginning.
+                tailIndex = 0;
+            } else {
+                Segment<T> drained = head;
+                head = drained.next;
+                drained.next = null;
+                segmentCount--;
+                if (spare == null) {
+                    spare = drained;
+                }
+            }
+            headIndex = 0;
+        }
+        return removeElement;
+    }
+
+    /**
+     * Returns the data from the front of the queue without removing it.
+     *
+     * Must be O(1).
+     *
+     * @return the data located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T peek() {
+
+        if (size == 0) {
+            throw new NoSuchElementException("The queue is empty.");
+        }
+
+        return head.items[headIndex];
+    }
+
+    /**
+     * Returns whether or not the queue is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Clears the queue, dropping every segment but one.
+     */
+    public void clear() {
+        head = new Segment<>(segmentSize);
+        tail = head;
+        spare = null;
+        headIndex = 0;
+        tailIndex = 0;
+        segmentCount = 1;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of segments linked into the queue, not counting
+     * the spare.
+     *
+     * @return the number of segments
+     */
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    /**
+     * Returns the number of elements per segment.
+     *
+     * @return the segment size
+     */
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * Returns the size of the queue.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A fixed-size array of elements and a link to the segment behind it.
+     */
+    private static class Segment<T> {
+
+        private final T[] items;
+        private Segment<T> next;
+
+        /**
+         * Constructs a new, empty Segment.
+         *
+         * @param length the number of elements it holds
+         */
+        Segment(int length) {
+            items = (T[]) new Object[length];
+        }
+    }
+}
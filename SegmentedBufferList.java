@@ -0,0 +1,386 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A list of fixed-width records stored in a chain of ByteBuffer chunks
+ * instead of one backing array.
+ *
+ * Every chunk holds the same power-of-two number of records, so an index
+ * splits into a chunk number and an offset with a shift and a mask. Growing
+ * allocates one more chunk and never copies the records already stored, and
+ * indices are longs, so the list is not limited to Integer.MAX_VALUE
+ * elements. Chunks can be direct (off-heap) buffers, which the garbage
+ * collector never scans, or ordinary heap buffers.
+ *
+ * Values are converted to bytes with a FixedWidthCodec, so get returns a new
+ * object read from the buffer, not the one that was added.
+ *
+ * @param <T> the type of element
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class SegmentedBufferList<T> {
+
+    /*
+     * The number of records per chunk when created with the default
+     * constructor.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    /*
+     * The initial length of the chunk array.
+     */
+    private static final int INITIAL_CHUNKS = 4;
+
+    private final FixedWidthCodec<T> codec;
+    private final int width;
+    private final int chunkShift;
+    private final int chunkMask;
+    private final boolean offHeap;
+    private ByteBuffer[] chunks;
+    private int chunkCount;
+    private long size;
+
+    /**
+     * Constructs a new SegmentedBufferList with off-heap chunks of
+     * DEFAULT_CHUNK_SIZE records.
+     *
+     * @param codec the codec that converts elements to and from bytes
+     * @throws java.lang.IllegalArgumentException if codec is null
+     */
+    public SegmentedBufferList(FixedWidthCodec<T> codec) {
+        this(codec, DEFAULT_CHUNK_SIZE, true);
+    }
+
+    /**
+     * Constructs a new SegmentedBufferList.
+     *
+     * @param codec     the codec that converts elements to and from bytes
+     * @param chunkSize the number of records per chunk, rounded up to a
+     *                  power of two
+     * @param offHeap   true for direct buffers, false for heap buffers
+     * @throws java.lang.IllegalArgumentException if codec is null, chunkSize
+     *                                            is not positive, or a chunk
+     *                                            would not fit in one buffer
+     */
+    public SegmentedBufferList(FixedWidthCodec<T> codec, int chunkSize, boolean offHeap) {
+
+        if (codec == null) {
+            throw new IllegalArgumentException("Codec cannot be null.");
+        } else if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive.");
+        }
+
+        int records = (chunkSize == 1) ? 1 : Integer.highestOneBit(chunkSize - 1) << 1;
+        if (records <= 0 || (long) records * codec.width() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk size is too large for one buffer.");
+        }
+
+        this.codec = codec;
+        this.width = codec.width();
+        this.chunkShift = Integer.numberOfTrailingZeros(records);
+        this.chunkMask = records - 1;
+        this.offHeap = offHeap;
+        chunks = new ByteBuffer[INITIAL_CHUNKS];
+    }
+
+    /**
+     * Adds the element to the specified index.
+     *
+     * Must be amortized O(1) for index size and O(n) for all other cases.
+     *
+     * @param index the index at which to add the new element
+     * @param data  the data to add at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index > size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public void addAtIndex(long index, T data) {
+
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        } else if (index > size) {
+            throw new IndexOutOfBoundsException("Index cannot be more than the size of the list.");
+        }
+
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+
+        if (size == ((long) chunkCount << chunkShift)) {
+            addChunk();
+        }
+
+        moveRecords(index, index + 1, size - index);
+        codec.write(data, chunks[chunkOf(index)], offsetOf(index));
+        size++;
+    }
+
+    /**
+     * Adds the element to the front of the list.
+     *
+     * Must be O(n).
+     *
+     * @param data the data to add to the front of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToFront(T data) {
+        addAtIndex(0, data);
+    }
+
+    /**
+     * Adds the element to the back of the list.
+     *
+     * Must be amortized O(1). Never copies existing records.
+     *
+     * @param data the data to add to the back of the list
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void addToBack(T data) {
+        addAtIndex(size, data);
+    }
+
+    /**
+     * Removes and returns the element at the specified index.
+     *
+     * Must be O(1) for index size - 1 and O(n) for all other cases.
+     *
+     * @param index the index of the element to remove
+     * @return the data formerly located at the specified index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T removeAtIndex(long index) {
+
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index cannot be negative.");
+        } else if (index >= size) {
+            throw new IndexOutOfBoundsException("Index cannot be more than the size of the list.");
+        }
+
+        T returnValue = codec.read(chunks[chunkOf(index)], offsetOf(index));
+        moveRecords(index + 1, index, size - index - 1);
+        size--;
+
+        // Keep one empty chunk as slack so adds and removes at a chunk
+        // boundary don't keep allocating.
+        if (chunkCount > 1 && size <= ((long) (chunkCount - 2) << chunkShift)) {
+            chunks[--chunkCount] = null;
+        }
+        return returnValue;
+    }
+
+    /**
+     * Removes and returns the first element of the list.
+     *
+     * Must be O(n).
+     *
+     * @return the data formerly located at the front of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromFront() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty.");
+        }
+        return removeAtIndex(0);
+    }
+
+    /**
+     * Removes and returns the last element of the list.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the back of the list
+     * @throws java.util.NoSuchElementException if the list is empty
+     */
+    public T removeFromBack() {
+        if (size == 0) {
+            throw new NoSuchElementException("The list is empty.");
+        }
+        return removeAtIndex(size - 1);
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element to get
+     * @return the data stored at the index in the list
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     */
+    public T get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index is not in the list.");
+        }
+        return codec.read(chunks[chunkOf(index)], offsetOf(index));
+    }
+
+    /**
+     * Replaces the element at the specified index.
+     *
+     * Must be O(1).
+     *
+     * @param index the index of the element to replace
+     * @param data  the new data
+     * @return the data formerly located at the index
+     * @throws java.lang.IndexOutOfBoundsException if index < 0 or index >= size
+     * @throws java.lang.IllegalArgumentException  if data is null
+     */
+    public T set(long index, T data) {
+
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index is not in the list.");
+        }
+
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+
+        ByteBuffer chunk = chunks[chunkOf(index)];
+        int offset = offsetOf(index);
+        T returnValue = codec.read(chunk, offset);
+        codec.write(data, chunk, offset);
+        return returnValue;
+    }
+
+    /**
+     * Returns whether or not the list is empty.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Clears the list.
+     *
+     * Drops every chunk, so off-heap memory is released once the buffers
+     * are collected.
+     */
+    public void clear() {
+        chunks = new ByteBuffer[INITIAL_CHUNKS];
+        chunkCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of records each chunk holds.
+     *
+     * @return the chunk size
+     */
+    public int getChunkSize() {
+        return chunkMask + 1;
+    }
+
+    /**
+     * Returns the number of chunks currently allocated.
+     *
+     * @return the chunk count
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Returns whether the chunks are direct (off-heap) buffers.
+     *
+     * @return true if off-heap, false otherwise
+     */
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    /**
+     * Returns the size of the list.
+     *
+     * @return the size of the list
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Private helper that appends a new chunk, growing the chunk array if
+     * it is full. Only chunk references are copied.
+     */
+    private void addChunk() {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, 2 * chunks.length);
+        }
+        int bytes = (chunkMask + 1) * width;
+        chunks[chunkCount++] = offHeap ? ByteBuffer.allocateDirect(bytes) : ByteBuffer.allocate(bytes);
+    }
+
+    /**
+     * Private helper that moves count records starting at from so they start
+     * at to. The ranges may overlap.
+     *
+     * The move is split into runs that stay inside one source chunk and one
+     * destination chunk, and each run is a single bulk copy. Runs are taken
+     * from the end when moving towards the back, so no record is overwritten
+     * before it is moved.
+     *
+     * @param from  the index of the first record to move
+     * @param to    the index to move it to
+     * @param count the number of records to move
+     */
+    private void moveRecords(long from, long to, long count) {
+        int chunkSize = chunkMask + 1;
+        if (to < from) {
+            while (count > 0) {
+                int run = (int) Math.min(count,
+                        Math.min(chunkSize - ((int) from & chunkMask), chunkSize - ((int) to & chunkMask)));
+                copyRun(from, to, run);
+                from += run;
+                to += run;
+                count -= run;
+            }
+        } else {
+            while (count > 0) {
+                long fromEnd = from + count;
+                long toEnd = to + count;
+                int run = (int) Math.min(count,
+                        Math.min(((int) (fromEnd - 1) & chunkMask) + 1, ((int) (toEnd - 1) & chunkMask) + 1));
+                copyRun(fromEnd - run, toEnd - run, run);
+                count -= run;
+            }
+        }
+    }
+
+    /**
+     * Private helper that copies a run of records that lies inside one
+     * source chunk and one destination chunk. Overlapping runs in the same
+     * chunk are copied as if through a temporary buffer.
+     *
+     * @param from  the index of the first record to copy
+     * @param to    the index to copy it to
+     * @param count the number of records to copy
+     */
+    private void copyRun(long from, long to, int count) {
+        chunks[chunkOf(to)].put(offsetOf(to), chunks[chunkOf(from)], offsetOf(from), count * width);
+    }
+
+    /**
+     * Private helper that returns the chunk an index is in.
+     *
+     * @param index the index
+     * @return the chunk number
+     */
+    private int chunkOf(long index) {
+        return (int) (index >>> chunkShift);
+    }
+
+    /**
+     * Private helper that returns the byte offset of an index in its chunk.
+     *
+     * @param index the index
+     * @return the byte offset
+     */
+    private int offsetOf(long index) {
+        return ((int) index & chunkMask) * width;
+    }
+}
@@ -0,0 +1,324 @@
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.Consumer;
+
+/**
+ * A bounded queue for exactly one producer thread and one consumer thread.
+ *
+ * The backing array length is a power of two, so a position wraps with a
+ * mask instead of a %. The producer only writes the tail and the consumer
+ * only writes the head, so neither needs a CAS: each publishes its counter
+ * with lazySet, an ordered store that is much cheaper than a volatile write.
+ * Each side also keeps a cached copy of the other side's counter and only
+ * rereads the real one when the cache shows too little room (or too few
+ * elements) for the operation, so in the steady state the two threads
+ * hardly touch each other's cache lines.
+ *
+ * enqueueBatch and drainTo move many elements for a single publish.
+ *
+ * Calling producer methods from more than one thread, or consumer methods
+ * from more than one thread, breaks the queue.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class SpscArrayQueue<T> {
+
+    /*
+     * The capacity of the queue when created with the default constructor.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final T[] backingArray;
+    private final int mask;
+    private final Side producer;
+    private final Side consumer;
+
+    /**
+     * Constructs a new SpscArrayQueue with a capacity of DEFAULT_CAPACITY.
+     */
+    public SpscArrayQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new SpscArrayQueue.
+     *
+     * @param capacity the most elements the queue holds, rounded up to a
+     *                 power of two
+     * @throws java.lang.IllegalArgumentException if capacity is not positive
+     *                                            or too large
+     */
+    public SpscArrayQueue(int capacity) {
+
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        } else if (capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity is too large.");
+        }
+
+        int length = (capacity == 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        backingArray = (T[]) new Object[length];
+        mask = length - 1;
+        producer = new Side();
+        consumer = new Side();
+    }
+
+    /**
+     * Adds the data to the back of the queue. Producer thread only.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the back of the queue
+     * @throws java.lang.IllegalArgumentException if data is null
+     * @throws java.lang.IllegalStateException    if the queue is full
+     */
+    public void enqueue(T data) {
+        if (!offer(data)) {
+            throw new IllegalStateException("The queue is full.");
+        }
+    }
+
+    /**
+     * Adds the data to the back of the queue if there is room. Producer
+     * thread only.
+     *
+     * Must be O(1).
+     *
+     * @param data the data to add to the back of the queue
+     * @return true if the data was added, false if the queue is full
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public boolean offer(T data) {
+
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+
+        long tail = producer.position;
+        if (freeSlots(tail, 1) == 0) {
+            return false;
+        }
+
+        backingArray[(int) tail & mask] = data;
+        Side.POSITION.lazySet(producer, tail + 1);
+        return true;
+    }
+
+    /**
+     * Adds as many of the items as fit, in order, and publishes them all at
+     * once. Producer thread only.
+     *
+     * Must be O(k) for k items.
+     *
+     * @param items the items to add
+     * @return the number of items added, from the start of the array
+     * @throws java.lang.IllegalArgumentException if items or any item is null
+     */
+    public int enqueueBatch(T[] items) {
+
+        if (items == null) {
+            throw new IllegalArgumentException("Items cannot be null.");
+        }
+        for (T item : items) {
+            if (item == null) {
+                throw new IllegalArgumentException("Data cannot be null.");
+            }
+        }
+
+        long tail = producer.position;
+        int count = (int) freeSlots(tail, items.length);
+        for (int i = 0; i < count; i++) {
+            backingArray[(int) (tail + i) & mask] = items[i];
+        }
+
+        if (count > 0) {
+            Side.POSITION.lazySet(producer, tail + count);
+        }
+        return count;
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue. Consumer
+     * thread only.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T dequeue() {
+        T data = poll();
+        if (data == null) {
+            throw new NoSuchElementException("The queue is empty.");
+        }
+        return data;
+    }
+
+    /**
+     * Removes and returns the data from the front of the queue, if any.
+     * Consumer thread only.
+     *
+     * Must be O(1).
+     *
+     * @return the data formerly located at the front of the queue, or null
+     * if the queue is empty
+     */
+    public T poll() {
+
+        long head = consumer.position;
+        if (availableSlots(head, 1) == 0) {
+            return null;
+        }
+
+        int index = (int) head & mask;
+        T data = backingArray[index];
+        backingArray[index] = null;
+        Side.POSITION.lazySet(consumer, head + 1);
+        return data;
+    }
+
+    /**
+     * Removes up to maxBatch elements from the front of the queue and passes
+     * them to action in order, then frees all of their slots at once.
+     * Consumer thread only.
+     *
+     * Must be O(k) for k elements drained.
+     *
+     * @param action   the action to perform on each element
+     * @param maxBatch the most elements to drain
+     * @return the number of elements drained
+     * @throws java.lang.IllegalArgumentException if action is null or
+     *                                            maxBatch is negative
+     */
+    public int drainTo(Consumer<? super T> action, int maxBatch) {
+
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null.");
+        } else if (maxBatch < 0) {
+            throw new IllegalArgumentException("Max batch cannot be negative.");
+        }
+
+        long head = consumer.position;
+        int count = (int) availableSlots(head, maxBatch);
+        for (int i = 0; i < count; i++) {
+            int index = (int) (head + i) & mask;
+            T data = backingArray[index];
+            backingArray[index] = null;
+            action.accept(data);
+        }
+
+        if (count > 0) {
+            Side.POSITION.lazySet(consumer, head + count);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the data from the front of the queue without removing it.
+     * Consumer thread only.
+     *
+     * Must be O(1).
+     *
+     * @return the data located at the front of the queue
+     * @throws java.util.NoSuchElementException if the queue is empty
+     */
+    public T peek() {
+
+        long head = consumer.position;
+        if (availableSlots(head, 1) == 0) {
+            throw new NoSuchElementException("The queue is empty.");
+        }
+
+        return backingArray[(int) head & mask];
+    }
+
+    /**
+     * Returns whether or not the queue is empty. Only a snapshot while the
+     * other thread is running.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the capacity of the queue.
+     *
+     * @return the capacity of the queue
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Returns the size of the queue. Only a snapshot while the other thread
+     * is running.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        long head = consumer.position;
+        long tail = producer.position;
+        return (int) Math.max(0, Math.min(tail - head, mask + 1));
+    }
+
+    /**
+     * Private helper for the producer that returns how many slots are free
+     * at tail, up to wanted. Rereads the consumer's head only if the cached
+     * copy shows fewer than wanted free slots.
+     *
+     * @param tail   the producer's position
+     * @param wanted the number of slots the caller would like
+     * @return the number of free slots, at most wanted
+     */
+    private long freeSlots(long tail, long wanted) {
+        long free = (mask + 1) - (tail - producer.cached);
+        if (free < wanted) {
+            producer.cached = consumer.position;
+            free = (mask + 1) - (tail - producer.cached);
+        }
+        return Math.min(free, wanted);
+    }
+
+    /**
+     * Private helper for the consumer that returns how many slots are
+     * filled at head, up to wanted. Rereads the producer's tail only if the
+     * cached copy shows fewer than wanted filled slots.
+     *
+     * @param head   the consumer's position
+     * @param wanted the number of elements the caller would like
+     * @return the number of filled slots, at most wanted
+     */
+    private long availableSlots(long head, long wanted) {
+        long available = consumer.cached - head;
+        if (available < wanted) {
+            consumer.cached = producer.position;
+            available = consumer.cached - head;
+        }
+        return Math.min(available, wanted);
+    }
+
+    /**
+     * One side's counter and its cached copy of the other side's counter,
+     * padded onto a cache line of their own. Only the owning thread writes
+     * either field.
+     */
+    private static final class Side {
+
+        /*
+         * Ordered stores to position.
+         */
+        static final AtomicLongFieldUpdater<Side> POSITION =
+                AtomicLongFieldUpdater.newUpdater(Side.class, "position");
+
+        long p1, p2, p3, p4, p5, p6, p7;
+        volatile long position;
+        long cached;
+        long q1, q2, q3, q4, q5, q6, q7;
+    }
+}
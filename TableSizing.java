@@ -0,0 +1,95 @@
+/**
+ * How a hash map sizes its table and turns a hash code into a bucket index.
+ *
+ * MODULO is what ExternalChainingHashMap does: any table length, growing to
+ * 2 * length + 1, and the index is the hash code mod the length.
+ *
+ * POWER_OF_TWO keeps the length a power of two, so the index is just a bit
+ * mask instead of an integer division. A mask only looks at the low bits of
+ * the hash code, so the hash code is run through the murmur3 finalizer first
+ * to mix every bit into the low ones; otherwise keys like multiples of 1024
+ * would all land in the same bucket.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public enum TableSizing {
+
+    MODULO {
+        @Override
+        public int indexFor(int hashCode, int length) {
+            return Math.abs(hashCode % length);
+        }
+
+        @Override
+        public int tableLength(int length) {
+            return length;
+        }
+
+        @Override
+        public int grow(int length) {
+            return 2 * length + 1;
+        }
+    },
+
+    POWER_OF_TWO {
+        @Override
+        public int indexFor(int hashCode, int length) {
+            return mix(hashCode) & (length - 1);
+        }
+
+        @Override
+        public int tableLength(int length) {
+            return (length <= 1) ? 1 : Integer.highestOneBit(length - 1) << 1;
+        }
+
+        @Override
+        public int grow(int length) {
+            return 2 * length;
+        }
+    };
+
+    /**
+     * Returns the bucket of a hash code in a table of the given length.
+     *
+     * @param hashCode the key's hash code
+     * @param length   the table length, as returned by tableLength
+     * @return the bucket index, between 0 and length - 1
+     */
+    public abstract int indexFor(int hashCode, int length);
+
+    /**
+     * Returns the table length this policy actually uses when asked for a
+     * table of the given length.
+     *
+     * @param length the requested length, positive
+     * @return the length to allocate, at least the requested length
+     */
+    public abstract int tableLength(int length);
+
+    /**
+     * Returns the table length to grow to when the load factor is exceeded.
+     *
+     * @param length the current table length
+     * @return the new table length
+     */
+    public abstract int grow(int length);
+
+    /**
+     * The murmur3 32-bit finalizer. Every input bit affects every output bit.
+     *
+     * @param h the hash code
+     * @return the mixed hash
+     */
+    public static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
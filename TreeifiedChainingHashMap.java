@@ -0,0 +1,555 @@
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A chaining HashMap that turns long chains into AVL trees.
+ *
+ * When a put makes a chain longer than TREEIFY_THRESHOLD, the chain is
+ * replaced with an AVL of its entries, so lookups in that bucket are
+ * O(log n) instead of O(n) even if a lot of keys share a bucket (bad or
+ * adversarial hash codes). A tree that shrinks to UNTREEIFY_THRESHOLD
+ * entries goes back to being a chain.
+ *
+ * Like java.util.HashMap, a tree orders its entries by key class name, then
+ * by compareTo for keys of the same Comparable class, and breaks any
+ * remaining tie by insertion order, so keys of any mix of classes can share
+ * a tree. A lookup goes one way down the tree when the key and the node's
+ * key are of the same Comparable class and compareTo is not 0; otherwise it
+ * searches both subtrees. So Comparable keys get the O(log n) bound, while
+ * keys that are not Comparable (or whose compareTo is not consistent with
+ * equals) are still found, in O(n) time like a chain.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class TreeifiedChainingHashMap<K, V> {
+
+    /*
+     * The initial capacity of the map when created with the default
+     * constructor.
+     */
+    public static final int INITIAL_CAPACITY = 13;
+
+    /*
+     * The max load factor of the map.
+     */
+    public static final double MAX_LOAD_FACTOR = 0.67;
+
+    /*
+     * A chain longer than this is turned into a tree.
+     */
+    public static final int TREEIFY_THRESHOLD = 8;
+
+    /*
+     * A tree with this many entries or fewer is turned back into a chain.
+     */
+    public static final int UNTREEIFY_THRESHOLD = 6;
+
+    private final TableSizing sizing;
+    /*
+     * For each bucket, either table[i] is the head of its chain, or trees[i]
+     * holds its entries as a tree and table[i] is null.
+     */
+    private ExternalChainingMapEntry<K, V>[] table;
+    private AVL<TreeEntry<K, V>>[] trees;
+    private int size;
+    private long nextOrder;
+
+    /**
+     * Constructs a new TreeifiedChainingHashMap with a capacity of
+     * INITIAL_CAPACITY and TableSizing.MODULO.
+     */
+    public TreeifiedChainingHashMap() {
+        this(INITIAL_CAPACITY, TableSizing.MODULO);
+    }
+
+    /**
+     * Constructs a new TreeifiedChainingHashMap.
+     *
+     * You may assume capacity will always be positive.
+     *
+     * @param capacity the initial capacity of the backing array
+     * @param sizing   how the table is sized and indexed
+     * @throws java.lang.IllegalArgumentException if sizing is null
+     */
+    public TreeifiedChainingHashMap(int capacity, TableSizing sizing) {
+
+        if (sizing == null) {
+            throw new IllegalArgumentException("Sizing cannot be null.");
+        }
+
+        this.sizing = sizing;
+        int length = sizing.tableLength(capacity);
+        table = new ExternalChainingMapEntry[length];
+        trees = newTrees(length);
+        size = 0;
+    }
+
+    /**
+     * Adds the given key-value pair to the map. If an entry in the map
+     * already has this key, replace the entry's value with the new one
+     * passed in.
+     *
+     * If adding would exceed MAX_LOAD_FACTOR, the table is first grown as the
+     * sizing says.
+     *
+     * @param key   the key to add
+     * @param value the value to add
+     * @return null if the key was not already in the map. If it was in the
+     * map, return the old value associated with it
+     * @throws java.lang.IllegalArgumentException if key or value is null
+     */
+    public V put(K key, V value) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        } else if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+
+        if (((size + 1.0) / table.length) > MAX_LOAD_FACTOR) {
+            resizeBackingTable(sizing.grow(table.length));
+        }
+
+        int index = sizing.indexFor(key.hashCode(), table.length);
+
+        if (trees[index] != null) {
+            TreeEntry<K, V> found = findInTree(trees[index].getRoot(), key);
+            if (found != null) {
+                V returnValue = found.value;
+                found.value = value;
+                return returnValue;
+            }
+            trees[index].add(new TreeEntry<>(key, value, nextOrder++));
+            size++;
+            return null;
+        }
+
+        int chainLength = 0;
+        ExternalChainingMapEntry<K, V> currEntry = table[index];
+
+        while (currEntry != null) {
+            if (currEntry.getKey().equals(key)) {
+                V returnValue = currEntry.getValue();
+                currEntry.setValue(value);
+                return returnValue;
+            }
+            chainLength++;
+            currEntry = currEntry.getNext();
+        }
+
+        table[index] = new ExternalChainingMapEntry<>(key, value, table[index]);
+        size++;
+
+        if (chainLength + 1 > TREEIFY_THRESHOLD) {
+            treeify(index);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the entry with a matching key from the map.
+     *
+     * @param key the key to remove
+     * @return the value previously associated with the key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    public V remove(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        int index = sizing.indexFor(key.hashCode(), table.length);
+
+        if (trees[index] != null) {
+            TreeEntry<K, V> found = findInTree(trees[index].getRoot(), key);
+            if (found == null) {
+                throw new NoSuchElementException("Key is not in the map.");
+            }
+            // Removing the stored entry itself lets the AVL find its node
+            // through the tie-break order.
+            trees[index].remove(found);
+            size--;
+            if (trees[index].size() <= UNTREEIFY_THRESHOLD) {
+                untreeify(index);
+            }
+            return found.value;
+        }
+
+        ExternalChainingMapEntry<K, V> prevEntry = null;
+        ExternalChainingMapEntry<K, V> currEntry = table[index];
+
+        while (currEntry != null) {
+            if (currEntry.getKey().equals(key)) {
+                if (prevEntry == null) {
+                    table[index] = currEntry.getNext();
+                } else {
+                    prevEntry.setNext(currEntry.getNext());
+                }
+                size--;
+                return currEntry.getValue();
+            }
+            prevEntry = currEntry;
+            currEntry = currEntry.getNext();
+        }
+
+        throw new NoSuchElementException("Key is not in the map.");
+    }
+
+    /**
+     * Gets the value associated with the given key.
+     *
+     * @param key the key to search for in the map
+     * @return the value associated with the given key
+     * @throws java.lang.IllegalArgumentException if key is null
+     * @throws java.util.NoSuchElementException   if the key is not in the map
+     */
+    public V get(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        V value = find(key);
+        if (value == null) {
+            throw new NoSuchElementException("Key is not in the map.");
+        }
+        return value;
+    }
+
+    /**
+     * Returns whether or not the key is in the map.
+     *
+     * @param key the key to search for in the map
+     * @return true if the key is contained within the map, false
+     * otherwise
+     * @throws java.lang.IllegalArgumentException if key is null
+     */
+    public boolean containsKey(K key) {
+
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null.");
+        }
+
+        return find(key) != null;
+    }
+
+    /**
+     * Returns a Set view of the keys contained in this map.
+     *
+     * Use java.util.HashSet.
+     *
+     * @return the set of keys in this map
+     */
+    public Set<K> keySet() {
+
+        Set<K> returnKeySet = new HashSet<>();
+
+        for (TreeEntry<K, V> entry : entries()) {
+            returnKeySet.add(entry.key);
+        }
+
+        return returnKeySet;
+    }
+
+    /**
+     * Returns a List view of the values contained in this map, in order of
+     * increasing table index. Within a bucket, chains are listed in chain
+     * order and trees in tree order (key order for Comparable keys).
+     *
+     * @return list of values in this map
+     */
+    public List<V> values() {
+
+        List<V> valueList = new ArrayList<>();
+
+        for (TreeEntry<K, V> entry : entries()) {
+            valueList.add(entry.value);
+        }
+
+        return valueList;
+    }
+
+    /**
+     * Resize the backing table to length, rounded up as the sizing requires.
+     *
+     * Disregard the load factor for this method. Chained entries are relinked
+     * into the new table, tree entries are chained, and any new bucket whose
+     * chain is still too long is treeified again.
+     *
+     * @param length new length of the backing table
+     * @throws java.lang.IllegalArgumentException if length is less than the
+     *                                            number of items in the hash
+     *                                            map
+     */
+    public void resizeBackingTable(int length) {
+
+        if (length < size) {
+            throw new IllegalArgumentException("Length cannot be less than the numbers of items in the hash map.");
+        }
+
+        ExternalChainingMapEntry<K, V>[] oldTable = table;
+        AVL<TreeEntry<K, V>>[] oldTrees = trees;
+        int newLength = sizing.tableLength(length);
+        table = new ExternalChainingMapEntry[newLength];
+        trees = newTrees(newLength);
+        int[] chainLengths = new int[newLength];
+
+        for (int i = 0; i < oldTable.length; i++) {
+            if (oldTrees[i] != null) {
+                List<TreeEntry<K, V>> treeEntries = new ArrayList<>();
+                inorder(oldTrees[i].getRoot(), treeEntries);
+                for (TreeEntry<K, V> entry : treeEntries) {
+                    int index = sizing.indexFor(entry.key.hashCode(), newLength);
+                    table[index] = new ExternalChainingMapEntry<>(entry.key, entry.value, table[index]);
+                    chainLengths[index]++;
+                }
+            }
+
+            ExternalChainingMapEntry<K, V> currEntry = oldTable[i];
+            while (currEntry != null) {
+                ExternalChainingMapEntry<K, V> nextEntry = currEntry.getNext();
+                int index = sizing.indexFor(currEntry.getKey().hashCode(), newLength);
+
+                currEntry.setNext(table[index]);
+                table[index] = currEntry;
+                chainLengths[index]++;
+                currEntry = nextEntry;
+            }
+        }
+
+        for (int i = 0; i < newLength; i++) {
+            if (chainLengths[i] > TREEIFY_THRESHOLD) {
+                treeify(i);
+            }
+        }
+    }
+
+    /**
+     * Clears the map.
+     *
+     * Resets the table to a new array of the initial capacity and resets the
+     * size.
+     */
+    public void clear() {
+        int length = sizing.tableLength(INITIAL_CAPACITY);
+        table = new ExternalChainingMapEntry[length];
+        trees = newTrees(length);
+        size = 0;
+    }
+
+    /**
+     * Returns the number of buckets currently stored as trees.
+     *
+     * @return the number of treeified buckets
+     */
+    public int treeifiedBuckets() {
+        int count = 0;
+        for (AVL<TreeEntry<K, V>> tree : trees) {
+            if (tree != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Private helper that finds the value for key.
+     *
+     * @param key the key to search for
+     * @return the value, or null if the key is not in the map
+     */
+    private V find(K key) {
+        int index = sizing.indexFor(key.hashCode(), table.length);
+
+        if (trees[index] != null) {
+            TreeEntry<K, V> found = findInTree(trees[index].getRoot(), key);
+            return (found == null) ? null : found.value;
+        }
+
+        for (ExternalChainingMapEntry<K, V> e = table[index]; e != null; e = e.getNext()) {
+            if (e.getKey().equals(key)) {
+                return e.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Private helper that finds the entry for key in a subtree. Goes one way
+     * when compareTo can tell, and searches both subtrees when it can't.
+     *
+     * @param currNode the root of the subtree
+     * @param key      the key to search for
+     * @return the stored entry, or null if the key is not in the subtree
+     */
+    private TreeEntry<K, V> findInTree(AVLNode<TreeEntry<K, V>> currNode, K key) {
+        while (currNode != null) {
+            TreeEntry<K, V> entry = currNode.getData();
+            if (entry.key.equals(key)) {
+                return entry;
+            }
+
+            int compare = compareKeys(key, entry.key);
+            if (compare < 0) {
+                currNode = currNode.getLeft();
+            } else if (compare > 0) {
+                currNode = currNode.getRight();
+            } else {
+                TreeEntry<K, V> found = findInTree(currNode.getRight(), key);
+                if (found != null) {
+                    return found;
+                }
+                currNode = currNode.getLeft();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Private helper that compares two keys with compareTo if they are of
+     * the same Comparable class.
+     *
+     * @param a the first key
+     * @param b the second key
+     * @return the result of compareTo, or 0 if the keys can't be compared
+     */
+    private static int compareKeys(Object a, Object b) {
+        if (a.getClass() != b.getClass() || !(a instanceof Comparable)) {
+            return 0;
+        }
+        // Same class, so a's compareTo accepts b.
+        @SuppressWarnings("unchecked")
+        Comparable<Object> comparable = (Comparable<Object>) a;
+        return comparable.compareTo(b);
+    }
+
+    /**
+     * Private helper that creates an array of empty buckets for the trees.
+     *
+     * @param length the length of the array
+     * @return the array
+     */
+    private AVL<TreeEntry<K, V>>[] newTrees(int length) {
+        // Generic arrays can't be created directly; this one only ever holds
+        // trees of TreeEntry<K, V>.
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        AVL<TreeEntry<K, V>>[] newTrees = new AVL[length];
+        return newTrees;
+    }
+
+    /**
+     * Private helper that replaces the chain at index with a tree.
+     *
+     * @param index the bucket
+     */
+    private void treeify(int index) {
+        AVL<TreeEntry<K, V>> tree = new AVL<>();
+        for (ExternalChainingMapEntry<K, V> e = table[index]; e != null; e = e.getNext()) {
+            tree.add(new TreeEntry<>(e.getKey(), e.getValue(), nextOrder++));
+        }
+        trees[index] = tree;
+        table[index] = null;
+    }
+
+    /**
+     * Private helper that replaces the tree at index with a chain.
+     *
+     * @param index the bucket
+     */
+    private void untreeify(int index) {
+        List<TreeEntry<K, V>> treeEntries = new ArrayList<>();
+        inorder(trees[index].getRoot(), treeEntries);
+
+        ExternalChainingMapEntry<K, V> head = null;
+        for (int i = treeEntries.size() - 1; i >= 0; i--) {
+            head = new ExternalChainingMapEntry<>(treeEntries.get(i).key, treeEntries.get(i).value, head);
+        }
+        table[index] = head;
+        trees[index] = null;
+    }
+
+    /**
+     * Private helper that lists every entry in table order.
+     *
+     * @return the entries of the map
+     */
+    private List<TreeEntry<K, V>> entries() {
+        List<TreeEntry<K, V>> list = new ArrayList<>();
+
+        for (int i = 0; i < table.length; i++) {
+            if (trees[i] != null) {
+                inorder(trees[i].getRoot(), list);
+            }
+            for (ExternalChainingMapEntry<K, V> e = table[i]; e != null; e = e.getNext()) {
+                list.add(new TreeEntry<>(e.getKey(), e.getValue(), 0));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Private helper that adds the data of a subtree to list in order.
+     *
+     * @param currNode the root of the subtree
+     * @param list     the list to add to
+     */
+    private void inorder(AVLNode<TreeEntry<K, V>> currNode, List<TreeEntry<K, V>> list) {
+        if (currNode != null) {
+            inorder(currNode.getLeft(), list);
+            list.add(currNode.getData());
+            inorder(currNode.getRight(), list);
+        }
+    }
+
+    /**
+     * A key-value pair stored in a tree bucket. Ordered by key class name,
+     * then by compareTo for keys of the same Comparable class, then by the
+     * order the entries went into trees, so no two entries in a tree compare
+     * as equal.
+     */
+    private static final class TreeEntry<K, V> implements Comparable<TreeEntry<K, V>> {
+        private final K key;
+        private V value;
+        private final long order;
+
+        /**
+         * Creates a tree entry.
+         *
+         * @param key   the key
+         * @param value the value
+         * @param order the tie-break order
+         */
+        TreeEntry(K key, V value, long order) {
+            this.key = key;
+            this.value = value;
+            this.order = order;
+        }
+
+        @Override
+        public int compareTo(TreeEntry<K, V> other) {
+            int compare = key.getClass().getName().compareTo(other.key.getClass().getName());
+            if (compare == 0) {
+                compare = compareKeys(key, other.key);
+            }
+            return (compare != 0) ? compare : Long.compare(order, other.order);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A Chase-Lev work-stealing deque: one owner thread pushes and pops tasks at
+ * the bottom, and any number of thief threads steal from the top.
+ *
+ * The owner's push and pop are plain reads and writes plus one volatile write
+ * of bottom, except when a pop races a steal for the last element; then both
+ * sides settle it with a CAS on top. Thieves always CAS top, so two thieves
+ * never get the same element. The owner works LIFO on its newest tasks while
+ * thieves take the oldest ones, which are usually the biggest.
+ *
+ * The circular array grows by doubling when a push finds it full. Thieves
+ * that still hold the old array read the same elements from it, so growing
+ * needs no coordination.
+ *
+ * Only the owner clears slots. A thief that wins an element leaves it in its
+ * slot, since the owner may already have wrapped around and pushed into that
+ * slot again; the stale reference is dropped when a push overwrites the slot
+ * or the array grows.
+ *
+ * @author Mythri Muralikannan
+ * @version 1.0
+ * @userid mmuralikannan3
+ * @GTID 903805814
+ *
+ */
+public class WorkStealingDeque<T> {
+
+    /*
+     * The initial capacity of the deque.
+     */
+    public static final int INITIAL_CAPACITY = 16;
+
+    /*
+     * Atomic operations on top.
+     */
+    @SuppressWarnings("rawtypes") // A class literal can't name WorkStealingDeque<T>.
+    private static final AtomicLongFieldUpdater<WorkStealingDeque> TOP =
+            AtomicLongFieldUpdater.newUpdater(WorkStealingDeque.class, "top");
+
+    private volatile AtomicReferenceArray<T> array;
+    private volatile long top;
+    private volatile long bottom;
+
+    /**
+     * Constructs a new WorkStealingDeque.
+     */
+    public WorkStealingDeque() {
+        array = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Pushes the data onto the bottom of the deque. Owner thread only.
+     *
+     * Must be amortized O(1).
+     *
+     * @param data the data to push
+     * @throws java.lang.IllegalArgumentException if data is null
+     */
+    public void push(T data) {
+
+        if (data == null) {
+            throw new IllegalArgumentException("Data cannot be null.");
+        }
+
+        long b = bottom;
+        long t = top;
+        AtomicReferenceArray<T> a = array;
+        if (b - t >= a.length()) {
+            a = grow(a, t, b);
+        }
+        a.set((int) b & (a.length() - 1), data);
+        bottom = b + 1;
+    }
+
+    /**
+     * Pops the data from the bottom of the deque, the one most recently
+     * pushed. Owner thread only.
+     *
+     * Must be O(1).
+     *
+     * @return the popped data, or null if the deque is empty (or a thief
+     * took the last element first)
+     */
+    public T pop() {
+
+        long b = bottom - 1;
+        AtomicReferenceArray<T> a = array;
+        bottom = b;
+        long t = top;
+
+        if (t > b) {
+            // Empty; undo the claim.
+            bottom = b + 1;
+            return null;
+        }
+
+        int index = (int) b & (a.length() - 1);
+        T data = a.get(index);
+        if (t == b) {
+            // The last element; race the thieves for it.
+            boolean won = TOP.compareAndSet(this, t, t + 1);
+            bottom = b + 1;
+            if (!won) {
+                return null;
+            }
+        }
+        // The slot is the owner's now: no thief can win it any more.
+        a.lazySet(index, null);
+        return data;
+    }
+
+    /**
+     * Steals the data from the top of the deque, the one pushed longest ago.
+     * Any thread may call this.
+     *
+     * Must be O(1) when uncontended.
+     *
+     * @return the stolen data, or null if the deque is empty
+     */
+    public T steal() {
+
+        while (true) {
+            long t = top;
+            long b = bottom;
+            if (t >= b) {
+                return null;
+            }
+
+            AtomicReferenceArray<T> a = array;
+            int index = (int) t & (a.length() - 1);
+            T data = a.get(index);
+            if (TOP.compareAndSet(this, t, t + 1)) {
+                return data;
+            }
+            // Another thief or the owner took it; try the next one.
+        }
+    }
+
+    /**
+     * Returns whether or not the deque is empty. Only a snapshot while other
+     * threads are running.
+     *
+     * @return true if empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the size of the deque. Only a snapshot while other threads are
+     * running.
+     *
+     * @return the size of the deque
+     */
+    public int size() {
+        long t = top;
+        long b = bottom;
+        return (int) Math.max(0, b - t);
+    }
+
+    /**
+     * Private helper that copies the elements from top to bottom into an
+     * array twice as long and publishes it. Owner thread only.
+     *
+     * @param old the current array
+     * @param t   the top index
+     * @param b   the bottom index
+     * @return the new array
+     */
+    private AtomicReferenceArray<T> grow(AtomicReferenceArray<T> old, long t, long b) {
+        AtomicReferenceArray<T> a = new AtomicReferenceArray<>(2 * old.length());
+        int oldMask = old.length() - 1;
+        int mask = a.length() - 1;
+        for (long i = t; i < b; i++) {
+            a.set((int) i & mask, old.get((int) i & oldMask));
+        }
+        array = a;
+        return a;
+    }
+}